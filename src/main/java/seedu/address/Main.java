@@ -20,11 +20,19 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --run FILE}, the commands in {@code FILE} are run against the saved address book without starting
+ * the GUI, and the application exits once they are done.
  */
 public class Main {
+    public static final String RUN_OPTION = "--run";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals(RUN_OPTION)) {
+            System.exit(MainApp.runWithoutGui(args[1]));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,6 +16,10 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,8 +27,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -38,6 +43,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 5, 0, true);
 
+    static final String MESSAGE_NOT_SAVED = "The address book could not be saved, see the log for details.";
+    static final String MESSAGE_NOT_LOADED = "The data file %s could not be loaded, so no commands were run: %s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -52,19 +60,100 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        initComponents(appParameters.getConfigPath());
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Sets up the config, storage, model and logic of the application, using the config file at
+     * {@code configFilePath}, or the default config file if it is null.
+     */
+    private void initComponents(Path configFilePath) {
+        UserPrefs userPrefs = initStorage(configFilePath);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Sets up the config and storage of the application, using the config file at {@code configFilePath}, or the
+     * default config file if it is null, and returns the user prefs read.
+     */
+    private UserPrefs initStorage(Path configFilePath) {
+        config = initConfig(configFilePath);
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
+        return userPrefs;
+    }
 
-        model = initModelManager(storage, userPrefs);
+    /**
+     * Runs the commands in the file at {@code commandFilePath} against the saved address book without showing any
+     * window, and saves the address book once at the end. Prints how many commands ran and how many failed,
+     * followed by each failed line and why it failed.
+     *
+     * If the saved address book cannot be loaded, nothing is run and nothing is saved, so that the data file is not
+     * replaced by an empty address book.
+     *
+     * @return the exit status: 0 if the file was run and the address book saved, even if some of its lines failed,
+     *     or 1 if the address book could not be loaded, the file could not be run or the address book could not be
+     *     saved.
+     */
+    static int runWithoutGui(String commandFilePath) {
+        return runWithoutGui(commandFilePath, null);
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Runs the commands in the file at {@code commandFilePath} as {@link #runWithoutGui(String)} does, using the
+     * config file at {@code configFilePath}, or the default config file if it is null.
+     */
+    static int runWithoutGui(String commandFilePath, Path configFilePath) {
+        MainApp app = new MainApp();
+        UserPrefs userPrefs = app.initStorage(configFilePath);
+        try {
+            app.model = new ModelManager(readAddressBook(app.storage), userPrefs);
+        } catch (DataLoadingException e) {
+            System.err.println(String.format(MESSAGE_NOT_LOADED, app.storage.getAddressBookFilePath(),
+                    e.getMessage()));
+            app.storage.close();
+            return 1;
+        }
+        app.logic = new LogicManager(app.model, app.storage);
+        int exitStatus = 1;
+        try {
+            CommandResult result = app.logic.execute(RunCommand.COMMAND_WORD + " " + commandFilePath);
+            System.out.println(result.getFeedbackToUser());
+            exitStatus = 0;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+        } finally {
+            if (!app.stopComponents()) {
+                System.err.println(MESSAGE_NOT_SAVED);
+                exitStatus = 1;
+            }
+        }
+        return exitStatus;
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}, in the format chosen there.
+     * A file last saved in another format is converted first.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            AddressBookFormatConverter.convert(filePath, format);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert data file " + filePath + " to " + format + ": "
+                    + StringUtil.getDetails(e));
+        }
+        return AddressBookFormatConverter.createStorage(format, filePath);
     }
 
     /**
@@ -73,17 +162,9 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            initialData = readAddressBook(storage);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -93,6 +174,23 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the data from {@code storage}'s address book, or the data from the sample address book if
+     * {@code storage}'s address book is not found.
+     *
+     * @throws DataLoadingException if {@code storage}'s address book could not be read.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) throws DataLoadingException {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample AddressBook.");
+        }
+        return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -168,6 +266,26 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Waits for the address book to be written, and saves it again in full before returning if any save of it failed.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    private void flushAddressBook() throws IOException {
+        try {
+            storage.flushAddressBook();
+            if (!logic.hasFailedSave()) {
+                return;
+            }
+            logger.warning("An earlier save of the address book failed, saving it again");
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background, saving it again: "
+                    + StringUtil.getDetails(e));
+        }
+        // Failed saves make the next save a full snapshot, so this does not build on anything lost
+        storage.saveAddressBook(model.getAddressBook(), storage.getAddressBookFilePath());
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -176,11 +294,35 @@ public class MainApp extends Application {
 
     @Override
     public void stop() {
+        stopComponents();
+    }
+
+    /**
+     * Waits for the running command, saves the address book and preferences, and releases the storage.
+     *
+     * @return true if the address book was saved.
+     */
+    private boolean stopComponents() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        boolean isAddressBookSaved = false;
+        if (!logic.shutdown()) {
+            // Saving now could write an address book that a command is still changing
+            logger.severe("Interrupted while waiting for the running command to finish, the address book was not"
+                    + " saved on exit and changes since its last save may be lost");
+        } else {
+            try {
+                flushAddressBook();
+                isAddressBookSaved = true;
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        storage.close();
+        return isAddressBookSaved;
     }
 }
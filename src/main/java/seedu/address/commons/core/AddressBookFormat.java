@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The on-disk formats in which the address book data file can be kept.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, kept up to date with an append-only journal. */
+    JSON,
+    /** A compact, versioned binary snapshot. */
+    BINARY,
+    /** Binary person records that are memory-mapped and decoded as they are used, for the fastest startup. */
+    MAPPED
+}
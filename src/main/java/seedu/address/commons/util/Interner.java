@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values read or parsed many times can share
+ * one instance.
+ *
+ * The pool only holds its instances weakly: a value that is no longer used anywhere else is dropped from the pool.
+ * It is safe to use from multiple threads.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the pooled instance equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T pooled = reference == null ? null : reference.get();
+        if (pooled != null) {
+            return pooled;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+}
@@ -48,6 +48,56 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and transpositions of adjacent
+     * characters needed to turn {@code a} into {@code b}, or {@code maxDistance + 1} if more than {@code maxDistance}
+     * are needed.
+     *   Stops as soon as the distance is known to exceed {@code maxDistance}, so comparing dissimilar strings is cheap.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alcie", 2) == 1 //transposition
+     *       editDistance("alice", "alicia", 2) == 2
+     *       editDistance("alice", "bob", 2) == 3 //more than 2
+     *       </pre>
+     * @param maxDistance must not be negative
+     */
+    public static int editDistance(String a, String b, int maxDistance) {
+        requireNonNull(a);
+        requireNonNull(b);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // rows of the optimal string alignment table for the two previous prefixes of a, and the current one
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,7 +13,9 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * API of the Logic component
@@ -23,6 +30,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a worker thread that runs one command at a time, in the order they were given.
+     * The returned future completes on that thread with the result, or with the {@code CommandException} or
+     * {@code ParseException} that {@link #execute(String)} would have thrown. It also completes if the command throws
+     * any other exception or error, with that exception or error.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Runs {@code task} on the worker thread that executes commands, after the commands already given, so that it may
+     * read the address book while no command is changing it.
+     */
+    void executeAfterCommands(Runnable task);
+
+    /**
+     * Stops taking commands to execute in the background, and waits for those already taken to finish, however long
+     * they take, so that the address book is no longer changing once this returns.
+     *
+     * @return true if every command taken has finished, or false if the wait was interrupted first.
+     */
+    boolean shutdown();
+
+    /**
+     * Returns true if the last save of the address book failed, including one that failed in the background.
+     */
+    boolean hasFailedSave();
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +67,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     *
+     * @see seedu.address.model.Model#findPersonById(PersonId)
+     */
+    Optional<Person> findPersonById(PersonId id);
+
+    /**
+     * Returns up to {@code limit} names of persons that start with {@code prefix}, ignoring case.
+     *
+     * @see seedu.address.model.Model#getNamesByPrefix(String, int)
+     */
+    List<Name> getNamesByPrefix(String prefix, int limit);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +95,19 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the listener given the error message of any save that fails after {@link #execute(String)} has returned.
+     * The listener may be called from a background thread.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
+
+    /**
+     * Sets the listener given the ids of the persons affected by each command that changes the address book,
+     * including their relationship neighbours, or with no ids if only the persons shown have changed.
+     * The listener is called at most once per command, on the thread executing the command.
+     *
+     * @see seedu.address.model.Model#setPersonsChangedListener(Consumer)
+     */
+    void setPersonsChangedListener(Consumer<Set<PersonId>> listener);
 }
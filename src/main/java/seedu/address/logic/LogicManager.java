@@ -1,13 +1,24 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,7 +26,9 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,19 +40,34 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SHUTDOWN_WAIT_LOG_INTERVAL_SECONDS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService commandWorker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long savedVersion;
+    private long skippedSaveCount;
+    private volatile boolean hasFailedSave;
+    private volatile Consumer<String> saveFailureListener = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be already in sync with {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
+        storage.setSaveFailureHandler(this::handleBackgroundSaveFailure);
     }
 
     @Override
@@ -48,17 +76,115 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // Once per command, however many changes it made, and even if it failed partway
+            model.publishChanges();
+        }
+
+        saveIfChanged();
+
+        return commandResult;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandWorker.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException e) {
+                result.completeExceptionally(e);
+            } catch (Throwable e) {
+                // Such as a failed assertion, which must not leave the command box waiting for a result forever
+                logger.severe("Error while executing command: " + commandText + " " + StringUtil.getDetails(e));
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void executeAfterCommands(Runnable task) {
+        requireNonNull(task);
+        commandWorker.execute(task);
+    }
+
+    @Override
+    public boolean shutdown() {
+        commandWorker.shutdown();
+        try {
+            // The address book is saved once this returns, so the command must not be cut short or left running
+            while (!commandWorker.awaitTermination(SHUTDOWN_WAIT_LOG_INTERVAL_SECONDS, TimeUnit.SECONDS)) {
+                logger.info("Waiting for the running command to finish before exiting");
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean hasFailedSave() {
+        return hasFailedSave;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
 
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     * A failed save leaves the address book marked as changed, so the next command tries again.
+     */
+    private void saveIfChanged() throws CommandException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == savedVersion && !hasFailedSave) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " skipped so far)");
+            return;
+        }
+
+        hasFailedSave = false;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            hasFailedSave = true;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
+        savedVersion = version;
+    }
 
-        return commandResult;
+    /**
+     * Handles a save that failed after {@link Storage#saveAddressBook(ReadOnlyAddressBook)} had returned,
+     * so that the next command saves again and the user is told.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        hasFailedSave = true;
+        saveFailureListener.accept(getSaveFailureMessage(ioe));
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        saveFailureListener = listener;
+    }
+
+    @Override
+    public void setPersonsChangedListener(Consumer<Set<PersonId>> listener) {
+        model.setPersonsChangedListener(listener);
     }
 
     @Override
@@ -71,6 +197,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Optional<Person> findPersonById(PersonId id) {
+        return model.findPersonById(id);
+    }
+
+    @Override
+    public List<Name> getNamesByPrefix(String prefix, int limit) {
+        return model.getNamesByPrefix(prefix, limit);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
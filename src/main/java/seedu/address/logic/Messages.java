@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +22,8 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_PERSON_NOT_FOUND = "The person with the name '%s' could not be found.";
+    public static final String MESSAGE_DID_YOU_MEAN = "\nDid you mean: %s?";
+    public static final int MAX_NAME_SUGGESTIONS = 3;
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -41,6 +44,17 @@ public class Messages {
         return String.format(MESSAGE_PERSON_NOT_FOUND, name);
     }
 
+    /**
+     * Returns {@code message} followed by the {@code suggestions} of what the user may have meant, if there are any.
+     */
+    public static String withSuggestions(String message, List<Name> suggestions) {
+        if (suggestions.isEmpty()) {
+            return message;
+        }
+        String names = suggestions.stream().map(Name::toString).collect(Collectors.joining(", "));
+        return message + String.format(MESSAGE_DID_YOU_MEAN, names);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+
+/**
+ * Lists the persons who share a phone number or email address with another person, to help clean up the data.
+ */
+public class DuplicatesCommand extends Command {
+
+    public static final String COMMAND_WORD = "duplicates";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the people who share a phone number or email address with someone else.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Listed %d person(s) sharing a phone number or email address:\n%s\n"
+            + "(To get back to the full list of contacts, run the 'list' command)";
+
+    public static final String MESSAGE_NO_DUPLICATES = "No two people share a phone number or email address.";
+
+    public static final String MESSAGE_SHARED_PHONE = "Phone %s: %s\n";
+
+    public static final String MESSAGE_SHARED_EMAIL = "Email %s: %s\n";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, Set<PersonId>> sharedPhones = model.getSharedPhones();
+        Map<String, Set<PersonId>> sharedEmails = model.getSharedEmails();
+        if (sharedPhones.isEmpty() && sharedEmails.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        PersonIdSet sharing = new PersonIdSet();
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(sharedPhones).forEach((phone, ids) -> {
+            sharing.addAll(ids);
+            report.append(String.format(MESSAGE_SHARED_PHONE, phone, namesOf(model, ids)));
+        });
+        new TreeMap<>(sharedEmails).forEach((email, ids) -> {
+            sharing.addAll(ids);
+            report.append(String.format(MESSAGE_SHARED_EMAIL, email, namesOf(model, ids)));
+        });
+
+        model.updateFilteredPersonListByIds(sharing);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sharing.size(), report));
+    }
+
+    private static String namesOf(Model model, Set<PersonId> ids) {
+        return ids.stream()
+                .flatMap(id -> model.findPersonById(id).stream())
+                .map(person -> person.getName().fullName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
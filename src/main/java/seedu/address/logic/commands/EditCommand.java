@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -34,8 +33,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tuitionclass.ClassId;
-import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -107,15 +104,13 @@ public class EditCommand extends Command {
         if (editedPerson instanceof Student) {
             Student editedStudent = (Student) editedPerson;
             if (editedStudent.getParentId() != null) {
-                Optional<Person> parentOpt = model.getAddressBook().getPersonList().stream()
-                    .filter(p -> p.getId().equals(editedStudent.getParentId())).findFirst();
+                Optional<Person> parentOpt = model.findPersonById(editedStudent.getParentId());
                 if (parentOpt.isPresent() && parentOpt.get() instanceof Parent) {
                     Parent parent = (Parent) parentOpt.get();
                     model.setPerson(parentOpt.get(), parent);
                 }
             }
         }
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         String success = String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson));
         boolean hasChangedCategory = !personToEdit.getCategory().equals(editedPerson.getCategory());
         return new CommandResult(success + (hasChangedCategory ? MESSAGE_CATEGORY_CHANGED_WARNING : ""));
@@ -145,10 +140,11 @@ public class EditCommand extends Command {
             Student originalStudent = (Student) personToEdit;
             Student editedStudent = (Student) editedPerson;
 
-            // Preserve parent and tutor relationships
+            // Preserve parent and class relationships
             if (originalStudent.getParentId() != null) {
                 editedStudent.setParentId(originalStudent.getParentId());
             }
+            originalStudent.getClassId().ifPresent(editedStudent::setTuitionClass);
 
         } else if (personToEdit instanceof Parent && editedPerson instanceof Parent) {
             Parent originalParent = (Parent) personToEdit;
@@ -174,63 +170,16 @@ public class EditCommand extends Command {
      * Removes the person from their old relationships and updates related persons.
      */
     private static void cleanupOldRelationships(Person personToEdit, Model model) {
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        List<TuitionClass> allClasses = model.getTuitionClassList();
-
         if (personToEdit instanceof Student) {
-            Student student = (Student) personToEdit;
-
-            // Remove from parent's children list
-            if (student.getParentId() != null) {
-                Optional<Person> parentOpt = allPersons.stream()
-                    .filter(p -> p.getId().equals(student.getParentId()))
-                    .findFirst();
-                if (parentOpt.isPresent() && parentOpt.get() instanceof Parent) {
-                    Parent parent = (Parent) parentOpt.get();
-                    parent.removeChildId(student.getId());
-                    model.setPerson(parentOpt.get(), parent);
-                }
-            }
-
-            // Remove from classes
-            if (student.getClassId().isPresent()) {
-                ClassId classId = student.getClassId().get();
-                TuitionClass tuitionClass = allClasses.stream()
-                        .filter(c -> c.getClassId().equals(classId))
-                        .findFirst().get();
-                tuitionClass.removeStudentId(student.getId());
-                model.setTuitionClass(tuitionClass, tuitionClass);
-            }
-
+            // Remove from parent's children list and from classes
+            model.unlinkStudentFromParent(personToEdit.getId());
+            model.unlinkStudentFromClasses(personToEdit.getId());
         } else if (personToEdit instanceof Parent) {
-            Parent parent = (Parent) personToEdit;
-
             // Remove from all children's parent references
-            for (PersonId childId : parent.getChildrenIds()) {
-                Optional<Person> childOpt = allPersons.stream()
-                    .filter(p -> p.getId().equals(childId))
-                    .findFirst();
-                if (childOpt.isPresent() && childOpt.get() instanceof Student) {
-                    Student child = (Student) childOpt.get();
-                    if (child.getParentId() != null && child.getParentId().equals(parent.getId())) {
-                        child.clearParent();
-                        model.setPerson(childOpt.get(), child);
-                    }
-                }
-            }
-
+            model.unlinkParentFromStudent(personToEdit.getId());
         } else if (personToEdit instanceof Tutor) {
-            Tutor tutor = (Tutor) personToEdit;
-
             // remove tutor from classes
-            List<TuitionClass> tutorClasses = allClasses.stream()
-                    .filter(c -> tutor.getId().equals(c.getTutorId())).toList();
-            if (!tutorClasses.isEmpty()) {
-                for (TuitionClass tc : tutorClasses) {
-                    tc.removeTutorId();
-                    model.setTuitionClass(tc, tc);
-                }
-            }
+            model.unlinkTutorFromClasses(personToEdit.getId());
         }
     }
 
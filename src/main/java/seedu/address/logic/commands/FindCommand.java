@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -18,7 +21,14 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: *KEYWORD...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Alternatively, finds all persons whose tags match a query of tags combined with AND, OR, NOT "
+            + "and parentheses.\n"
+            + "Parameters: " + PREFIX_TAG + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "math AND sec3 AND NOT inactive\n"
+            + "Alternatively, finds all persons with a phone number or email address (case-insensitive).\n"
+            + "Parameters: " + PREFIX_PHONE + "PHONE or " + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234567";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +39,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByIds(model.getPersonIdsByNameKeywords(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()) + "\n\n"
                 + "(To get back to the full list of contacts, run the 'list' command)");
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+
+/**
+ * Finds and lists all persons in address book with a given phone number or email address.
+ * Email matching is case insensitive.
+ */
+public class FindContactCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    private final Phone phone;
+    private final Email email;
+
+    /**
+     * Creates a command to find the persons with the given {@code phone}.
+     */
+    public FindContactCommand(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+        this.email = null;
+    }
+
+    /**
+     * Creates a command to find the persons with the given {@code email}.
+     */
+    public FindContactCommand(Email email) {
+        requireNonNull(email);
+        this.phone = null;
+        this.email = email;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByIds(
+                phone != null ? model.getPersonIdsByPhone(phone) : model.getPersonIdsByEmail(email));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()) + "\n\n"
+                + "(To get back to the full list of contacts, run the 'list' command)");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindContactCommand)) {
+            return false;
+        }
+
+        FindContactCommand otherFindContactCommand = (FindContactCommand) other;
+        return Objects.equals(phone, otherFindContactCommand.phone)
+                && Objects.equals(email, otherFindContactCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("email", email)
+                .toString();
+    }
+}
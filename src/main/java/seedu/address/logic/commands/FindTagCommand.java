@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Finds and lists all persons in address book whose tags match a boolean tag query.
+ * Tag matching is case sensitive.
+ */
+public class FindTagCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    private final TagQuery query;
+
+    public FindTagCommand(TagQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByIds(model.getPersonIdsByTags(query));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()) + "\n\n"
+                + "(To get back to the full list of contacts, run the 'list' command)");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindTagCommand)) {
+            return false;
+        }
+
+        FindTagCommand otherFindTagCommand = (FindTagCommand) other;
+        return query.equals(otherFindTagCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
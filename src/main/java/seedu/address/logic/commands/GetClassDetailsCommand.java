@@ -6,12 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tuitionclass.ClassId;
@@ -56,15 +55,15 @@ public class GetClassDetailsCommand extends Command {
             throw new CommandException(MESSAGE_CLASS_NOT_FOUND);
         }
         TuitionClass tuitionClass = classOpt.get();
-        Optional<Tutor> tutorOptional = model.getAddressBook().getPersonList().stream()
-                    .filter(t -> t.getId().equals(tuitionClass.getTutorId()))
+        Optional<Tutor> tutorOptional = Optional.ofNullable(tuitionClass.getTutorId())
+                    .flatMap(model::findPersonById)
                     .filter(p -> p instanceof Tutor)
-                    .map(p -> (Tutor) p)
-                    .findFirst();
+                    .map(p -> (Tutor) p);
         List<Student> students = model.getStudentsInClass(tuitionClass);
-        Set<PersonId> studentIds = students.stream()
+        PersonIdSet shownIds = students.stream()
                 .map(Student::getId)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(PersonIdSet::new));
+        tutorOptional.ifPresent(tutor -> shownIds.add(tutor.getId()));
 
         StringBuilder sb = new StringBuilder("Class on ").append(tuitionClass.getDay()).append(", ")
                 .append(tuitionClass.getTime().toDisplayString()).append("\n");
@@ -80,8 +79,7 @@ public class GetClassDetailsCommand extends Command {
             sb.append("\n\n(To get back to the full list of contacts, run the 'list' command)");
         }
 
-        model.updateFilteredPersonList(p -> studentIds.contains(p.getId())
-                || tutorOptional.map(t -> t.getId().equals(p.getId())).orElse(false));
+        model.updateFilteredPersonListByIds(shownIds);
 
 
         return new CommandResult(sb.toString());
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdSet;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tuitionclass.TuitionClass;
 
@@ -78,7 +79,7 @@ public class GetClassesCommand extends Command {
 
         // Filter classes by tutor
         List<TuitionClass> tutorClasses = model.getClassesByTutor(tutor);
-        model.updateFilteredPersonList(person -> person.getId().equals(tutor.getId()));
+        model.updateFilteredPersonListByIds(new PersonIdSet(List.of(tutor.getId())));
 
         if (tutorClasses.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_NO_CLASSES_FOUND, tutor.getName()));
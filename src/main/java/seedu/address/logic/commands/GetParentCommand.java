@@ -7,11 +7,13 @@ import static seedu.address.model.person.Category.STUDENT;
 
 import java.util.List;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
 
 /**
  * Retrieves the parent of a specified student in the address book.
@@ -42,23 +44,19 @@ public class GetParentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> personList = model.getFilteredPersonList();
 
         // Find the student with the matching name
-        Person targetStudent = null;
-        for (Person person : personList) {
-            if (person.getCategory().equals(STUDENT)
-                    && person.getName().toString().trim().replaceAll("\\s+", " ")
-                    .equalsIgnoreCase(studentName.toString().trim().replaceAll("\\s+", " "))) {
-                targetStudent = person;
-                break;
-            }
-        }
+        Person targetStudent = model.findPersonByName(studentName).stream()
+                .filter(person -> person.getCategory().equals(STUDENT))
+                .findFirst()
+                .orElse(null);
 
         // If student is not found, throw an exception
         if (targetStudent == null) {
-            throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, studentName));
+            List<Name> suggestions = model.getSimilarNames(studentName,
+                    person -> person.getCategory().equals(STUDENT), Messages.MAX_NAME_SUGGESTIONS);
+            throw new CommandException(Messages.withSuggestions(
+                    String.format(MESSAGE_STUDENT_NOT_FOUND, studentName), suggestions));
         }
 
         // Get the parent ID from the student
@@ -66,22 +64,17 @@ public class GetParentCommand extends Command {
 
         // If student has no linked parent, throw exception
         if (parentId == null) {
-            model.updateFilteredPersonList(p -> false);
+            model.updateFilteredPersonListByIds(PersonIdSet.empty());
             throw new CommandException(String.format(MESSAGE_NO_PARENT_LINKED, targetStudent.getName()));
         }
 
         // Find parent with the matching ID
-        Person targetParent = null;
-        for (Person person : personList) {
-            if (person.getCategory().equals(PARENT) && person.getId().equals(parentId)) {
-                targetParent = person;
-                break;
-            }
-        }
+        Person targetParent = model.findPersonById(parentId)
+                .filter(person -> person.getCategory().equals(PARENT))
+                .orElse(null);
 
         // Update UI to show parent
-        model.updateFilteredPersonList(person ->
-                person.getId().equals(parentId));
+        model.updateFilteredPersonListByIds(new PersonIdSet(List.of(parentId)));
 
         // Return parent details
         return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudent.getName(), targetParent.getName()));
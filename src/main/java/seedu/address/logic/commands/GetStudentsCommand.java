@@ -4,15 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonId;
-import seedu.address.model.person.Student;
+import seedu.address.model.person.PersonIdSet;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tuitionclass.TuitionClass;
 
@@ -53,30 +52,32 @@ public class GetStudentsCommand extends Command {
         Tutor tutor = (Tutor) personsNamed.stream()
                 .filter(person -> person instanceof Tutor)
                 .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_TUTOR_NOT_FOUND, tutorName)));
+                .orElseThrow(() -> new CommandException(Messages.withSuggestions(
+                        String.format(MESSAGE_TUTOR_NOT_FOUND, tutorName),
+                        model.getSimilarNames(tutorName, person -> person instanceof Tutor,
+                                Messages.MAX_NAME_SUGGESTIONS))));
 
         List<TuitionClass> tutorClasses = model.getClassesByTutor(tutor);
 
         // Tutor has no classes, hence no students
         if (tutorClasses.isEmpty()) {
-            model.updateFilteredPersonList(p -> false);
+            model.updateFilteredPersonListByIds(PersonIdSet.empty());
             return new CommandResult(String.format(MESSAGE_NO_STUDENT_LINKED, tutor.getName()));
         }
 
-        Set<PersonId> allStudentIds = tutorClasses.stream()
+        PersonIdSet allStudentIds = tutorClasses.stream()
                 .flatMap(c -> model.getStudentsInClass(c).stream())
                 .map(p -> p.getId())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(PersonIdSet::new));
 
         // Tutor's classes have no students
         if (allStudentIds.isEmpty()) {
-            model.updateFilteredPersonList(p -> false);
+            model.updateFilteredPersonListByIds(PersonIdSet.empty());
             return new CommandResult(String.format(MESSAGE_NO_STUDENT_LINKED, tutor.getName()));
         }
 
         // Update UI to show filtered list of students
-        model.updateFilteredPersonList(p ->
-                p instanceof Student && allStudentIds.contains(p.getId()));
+        model.updateFilteredPersonListByIds(allStudentIds);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), tutor.getName()));
     }
@@ -76,7 +76,10 @@ public class LinkClassCommand extends Command {
         // 2. Find the Person
         List<Person> personsNamed = model.findPersonByName(personName);
         if (personsNamed.isEmpty()) {
-            throw new CommandException(Messages.messagePersonNotFound(personName));
+            List<Name> suggestions = model.getSimilarNames(personName,
+                    person -> person instanceof Student || person instanceof Tutor, Messages.MAX_NAME_SUGGESTIONS);
+            throw new CommandException(Messages.withSuggestions(Messages.messagePersonNotFound(personName),
+                    suggestions));
         }
 
         Person personToLink = personsNamed.get(0);
@@ -102,11 +105,7 @@ public class LinkClassCommand extends Command {
         }
 
         // Perform the link
-        student.setTuitionClass(tuitionClass);
-        tuitionClass.addStudentId(student.getId());
-        // Update the tuition class in the model to trigger UI refresh
-        model.setTuitionClass(tuitionClass, tuitionClass);
-        model.setPerson(student, student);
+        model.linkStudentToClass(student, tuitionClass);
 
         return new CommandResult(String.format(MESSAGE_LINK_STUDENT_SUCCESS,
                 student.getName(), tuitionClass.getDay(), tuitionClass.getTime().toDisplayString()));
@@ -132,11 +131,7 @@ public class LinkClassCommand extends Command {
             throw new CommandException(String.format(MESSAGE_CLASS_ALREADY_HAS_TUTOR, currentTutorName));
         }
         // Perform the assignment
-        tuitionClass.setTutorId(tutor.getId());
-        // Update the tuition class in the model to trigger UI refresh
-        model.setTuitionClass(tuitionClass, tuitionClass);
-        // Update the tutor in the model to trigger UI refresh
-        model.setPerson(tutor, tutor);
+        model.assignTutorToClass(tutor, tuitionClass);
 
         return new CommandResult(String.format(MESSAGE_ASSIGN_TUTOR_SUCCESS,
                 tutor.getName(), tuitionClass.getDay(), tuitionClass.getTime().toDisplayString()));
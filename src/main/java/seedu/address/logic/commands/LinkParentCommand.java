@@ -55,7 +55,6 @@ public class LinkParentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model);
-        List<Person> personList = model.getAddressBook().getPersonList();
 
         // Find the student
         List<Person> personsNamedStudent = model.findPersonByName(studentName);
@@ -93,25 +92,17 @@ public class LinkParentCommand extends Command {
 
         if (student.getParentId() != null) {
             hasOldParent = true;
-            Optional<Person> oldParentOpt = personList.stream()
-                    .filter(p -> p instanceof Parent && p.getId().equals(student.getParentId()))
-                    .findFirst();
+            Optional<Person> oldParentOpt = model.findPersonById(student.getParentId())
+                    .filter(p -> p instanceof Parent);
             if (oldParentOpt.isPresent() && oldParentOpt.get().equals(parent)) {
                 throw new CommandException(
                         String.format(MESSAGE_LINK_SAME_PARENT, parent.getName(), student.getName()));
             }
             oldParent = (Parent) oldParentOpt.get();
-            oldParent.removeChildId(student.getId());
-            model.setPerson(oldParent, oldParent);
         }
 
-        // Link the student and parent
-        student.setParentId(parent.getId());
-        parent.addChildId(student.getId());
-
-        // Even though the objects are mutated, use setPerson to ensure the UI updates
-        model.setPerson(student, student);
-        model.setPerson(parent, parent);
+        // Link the student and parent, unlinking the old parent if any
+        model.linkStudentToParent(student, parent);
 
         if (hasOldParent) {
             return new CommandResult(String.format(MESSAGE_UNLINK_AND_LINK_SUCCESS,
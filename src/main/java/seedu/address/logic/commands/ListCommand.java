@@ -5,11 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Optional;
-import java.util.Set;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Category;
-import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
 
 /**
  * Lists people in the address book to the user.
@@ -65,16 +64,16 @@ public class ListCommand extends Command {
         }
 
         Category cat = category.get();
-        Set<PersonId> listedPersons = model.getPersonIdsByCategory(cat);
+        PersonIdSet listedPersons = model.getPersonIdsByCategory(cat);
 
         // Category has no one
         if (listedPersons.isEmpty()) {
-            model.updateFilteredPersonList(p -> false);
+            model.updateFilteredPersonListByIds(PersonIdSet.empty());
             return new CommandResult(String.format(MESSAGE_EMPTY_CATEGORY, cat.toString()));
         }
 
         // Update UI to show filtered list
-        model.updateFilteredPersonList(p -> listedPersons.contains(p.getId()));
+        model.updateFilteredPersonListByIds(listedPersons);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, cat.toString()));
     }
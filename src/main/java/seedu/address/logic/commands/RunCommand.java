@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a text file, one per line, as a single command.
+ * The address book is therefore saved once after the whole file has run, rather than after every line.
+ * Lines whose command fails are reported and skipped; the lines after them still run. If the file cannot be read
+ * to the end, the lines read so far stay run and are reported, and the error reading the rest is reported with them.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line, and saves once they have all run. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new-term.txt";
+
+    public static final String MESSAGE_SUCCESS =
+            "Ran %d command(s) from %s in %d ms (%.0f commands/s): %d succeeded, %d failed.";
+
+    public static final String MESSAGE_LINE_FAILED = "\nLine %d: %s";
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read command file %s: %s";
+
+    public static final String MESSAGE_READ_FAILED = "\nStopped at line %d, which could not be read: %s";
+
+    public static final String MESSAGE_NESTED_RUN = "Command files cannot run other command files.";
+
+    private final Path filePath;
+    private final AddressBookParser parser;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code filePath}, parsing each with {@code parser}.
+     */
+    public RunCommand(Path filePath, AddressBookParser parser) {
+        requireNonNull(filePath);
+        requireNonNull(parser);
+        this.filePath = filePath;
+        this.parser = parser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        int succeeded = 0;
+        int failed = 0;
+        StringBuilder failures = new StringBuilder();
+
+        BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, ioe.getMessage()), ioe);
+        }
+
+        // Once a line has run the model has changed, so a later read error ends the run with the lines run so far
+        // reported, rather than with an exception that would skip saving them
+        try (reader) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    Command command = parser.parseCommand(commandText);
+                    if (command instanceof RunCommand) {
+                        throw new CommandException(MESSAGE_NESTED_RUN);
+                    }
+                    command.execute(model);
+                    succeeded++;
+                } catch (CommandException | ParseException e) {
+                    failed++;
+                    failures.append(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                } catch (RuntimeException e) {
+                    failed++;
+                    failures.append(String.format(MESSAGE_LINE_FAILED, lineNumber,
+                            Objects.requireNonNullElse(e.getMessage(), e.toString())));
+                }
+            }
+        } catch (IOException ioe) {
+            failures.append(String.format(MESSAGE_READ_FAILED, lineNumber + 1, ioe));
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        int ran = succeeded + failed;
+        double commandsPerSecond = ran * 1e9 / elapsedNanos;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, ran, filePath, elapsedNanos / 1_000_000,
+                commandsPerSecond, succeeded, failed) + failures);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
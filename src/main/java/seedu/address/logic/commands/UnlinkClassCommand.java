@@ -100,14 +100,10 @@ public class UnlinkClassCommand extends Command {
      */
     private CommandResult unlinkStudent(Model model, Student student, TuitionClass tuitionClass)
             throws CommandException {
-        if (!tuitionClass.getStudentIds().contains(student.getId())) {
+        if (!tuitionClass.hasStudentId(student.getId())) {
             throw new CommandException(MESSAGE_STUDENT_NOT_IN_CLASS);
         }
-        student.clearTuitionClass();
-        tuitionClass.removeStudentId(student.getId());
-        // Update the tuition class in the model to trigger UI refresh
-        model.setTuitionClass(tuitionClass, tuitionClass);
-        model.setPerson(student, student);
+        model.unlinkStudentFromClasses(student.getId());
 
         return new CommandResult(String.format(MESSAGE_UNLINK_STUDENT_SUCCESS,
                 student.getName(), tuitionClass.getDay(), tuitionClass.getTime().toDisplayString()));
@@ -122,11 +118,7 @@ public class UnlinkClassCommand extends Command {
         } else if (!tuitionClass.getTutorId().equals(tutor.getId())) {
             throw new CommandException(MESSAGE_TUTOR_NOT_TEACHING_THIS_CLASS);
         }
-        tuitionClass.removeTutorId();
-        // Update the tuition class in the model to trigger UI refresh
-        model.setTuitionClass(tuitionClass, tuitionClass);
-        // Update the tutor in the model to trigger UI refresh
-        model.setPerson(tutor, tutor);
+        model.unassignTutorFromClass(tuitionClass);
 
         return new CommandResult(String.format(MESSAGE_UNASSIGN_TUTOR_SUCCESS,
                 tutor.getName(), tuitionClass.getDay(), tuitionClass.getTime().toDisplayString()));
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DuplicatesCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -95,6 +96,12 @@ public class AddressBookParser {
         case "getclassdetails":
             return new GetClassDetailsCommandParser().parse(arguments);
 
+        case "duplicates":
+            return new DuplicatesCommand();
+
+        case "run":
+            return new RunCommandParser(this).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -1,17 +1,24 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindContactCommand;
+import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, a FindTagCommand if they are a tag query, or a
+ * FindContactCommand if they are a phone number or email address.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Keywords should only contain alphanumeric characters and spaces.";
@@ -20,16 +27,29 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand, FindTagCommand or FindContactCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_TAG.getPrefix())) {
+            return new FindTagCommand(TagQueryParser.parse(trimmedArgs.substring(PREFIX_TAG.getPrefix().length())));
+        }
+        if (trimmedArgs.startsWith(PREFIX_PHONE.getPrefix())) {
+            // phone numbers are often read out or pasted in groups of digits
+            String phone = trimmedArgs.substring(PREFIX_PHONE.getPrefix().length()).replaceAll("\\s+", "");
+            return new FindContactCommand(ParserUtil.parsePhone(phone));
+        }
+        if (trimmedArgs.startsWith(PREFIX_EMAIL.getPrefix())) {
+            return new FindContactCommand(
+                    ParserUtil.parseEmail(trimmedArgs.substring(PREFIX_EMAIL.getPrefix().length())));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
         for (String keyword : nameKeywords) {
             if (!keyword.matches(VALIDATION_REGEX)) {
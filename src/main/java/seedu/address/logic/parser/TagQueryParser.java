@@ -0,0 +1,105 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Parses a boolean expression over tags, such as {@code math AND (sec3 OR sec4) AND NOT inactive}, into a
+ * {@link TagQuery}.
+ *
+ * <pre>
+ * query  := term ("OR" term)*
+ * term   := factor ("AND" factor)*
+ * factor := "NOT" factor  |  "(" query ")"  |  TAG
+ * </pre>
+ *
+ * Operators must be in upper case. Tag names are separated by whitespace and parentheses, so tags containing those
+ * cannot be queried.
+ */
+public class TagQueryParser {
+
+    public static final String MESSAGE_CONSTRAINTS = "Tag queries combine single-word tags with AND, OR, NOT and "
+            + "parentheses, e.g. math AND (sec3 OR sec4) AND NOT inactive";
+
+    private static final Pattern TOKEN = Pattern.compile("\\(|\\)|[^\\s()]+");
+
+    private final List<String> tokens;
+    private int position;
+
+    private TagQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into a {@code TagQuery}.
+     *
+     * @throws ParseException if {@code query} is not a well-formed tag query.
+     */
+    public static TagQuery parse(String query) throws ParseException {
+        requireNonNull(query);
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(query);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+
+        TagQueryParser parser = new TagQueryParser(tokens);
+        TagQuery tagQuery = parser.parseQuery();
+        if (parser.position != tokens.size()) {
+            throw new ParseException(MESSAGE_CONSTRAINTS);
+        }
+        return tagQuery;
+    }
+
+    private TagQuery parseQuery() throws ParseException {
+        TagQuery query = parseTerm();
+        while (accept("OR")) {
+            query = TagQuery.or(query, parseTerm());
+        }
+        return query;
+    }
+
+    private TagQuery parseTerm() throws ParseException {
+        TagQuery term = parseFactor();
+        while (accept("AND")) {
+            term = TagQuery.and(term, parseFactor());
+        }
+        return term;
+    }
+
+    private TagQuery parseFactor() throws ParseException {
+        if (accept("NOT")) {
+            return TagQuery.not(parseFactor());
+        }
+        if (accept("(")) {
+            TagQuery query = parseQuery();
+            if (!accept(")")) {
+                throw new ParseException(MESSAGE_CONSTRAINTS);
+            }
+            return query;
+        }
+        if (position == tokens.size() || isReserved(tokens.get(position))) {
+            throw new ParseException(MESSAGE_CONSTRAINTS);
+        }
+        return TagQuery.has(ParserUtil.parseTag(tokens.get(position++)));
+    }
+
+    private boolean accept(String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isReserved(String token) {
+        return token.equals("AND") || token.equals("OR") || token.equals("NOT") || token.equals(")");
+    }
+}
@@ -1,28 +1,48 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.model.tuitionclass.UniqueClassList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Links between persons and classes are indexed in a {@link RelationshipGraph}; use the link and unlink
+ * operations below rather than mutating the relationship fields of persons and classes directly.
+ * Every change is also recorded in a {@link ChangeLog}, which lets storage find out what changed between saves.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueClassList tuitionClasses;
+    private final RelationshipGraph relationships;
+    private final ChangeLog changeLog;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -34,6 +54,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         tuitionClasses = new UniqueClassList();
+        relationships = new RelationshipGraph();
+        changeLog = new ChangeLog();
     }
 
     public AddressBook() {}
@@ -54,6 +76,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        relationships.rebuild(this.persons, tuitionClasses);
+        changeLog.reset();
+    }
+
+    /**
+     * Replaces the contents of the person and class lists with {@code persons} and {@code tuitionClasses}, building
+     * the relationship graph once for both.
+     * Neither list may contain duplicates.
+     */
+    public void setData(List<Person> persons, List<TuitionClass> tuitionClasses) {
+        requireAllNonNull(persons, tuitionClasses);
+        try {
+            this.persons.setPersons(persons);
+            this.tuitionClasses.setTuitionClasses(tuitionClasses);
+        } finally {
+            relationships.rebuild(this.persons, this.tuitionClasses);
+        }
+        changeLog.reset();
     }
 
     /**
@@ -62,8 +102,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTuitionClasses(newData.getTuitionClassList());
+        setData(newData.getPersonList(), newData.getTuitionClassList());
     }
 
     //// person-level operations
@@ -76,12 +115,111 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    @Override
+    public Optional<Person> findPersonById(PersonId id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the persons with the given {@code ids} who are in the address book, in list order, without scanning
+     * the list.
+     */
+    public List<Person> findPersonsByIds(Collection<PersonId> ids) {
+        requireNonNull(ids);
+        return persons.findByIds(ids);
+    }
+
+    /**
+     * Returns a comparator that orders the persons in the address book as {@link #getPersonList()} does.
+     * It may only be given persons in the address book.
+     */
+    public Comparator<Person> getPersonListOrder() {
+        return persons.listOrder();
+    }
+
+    /**
+     * Returns up to {@code limit} names starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<Name> findNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.findNamesByPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} names of persons matching {@code predicate} that are close to {@code name}, closest
+     * first.
+     */
+    public List<Name> findSimilarNames(Name name, Predicate<Person> predicate, int limit) {
+        requireAllNonNull(name, predicate);
+        return persons.findSimilarNames(name, predicate, limit);
+    }
+
+    /**
+     * Returns the ids of the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public PersonIdSet findPersonIdsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the ids of the persons with the phone number {@code phone}.
+     */
+    public PersonIdSet findPersonIdsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the ids of the persons with the email address {@code email}, ignoring case.
+     */
+    public PersonIdSet findPersonIdsByEmail(Email email) {
+        requireNonNull(email);
+        return persons.findByEmail(email);
+    }
+
+    /**
+     * Returns each phone number that more than one person has, with the ids of those persons.
+     */
+    public Map<String, Set<PersonId>> findSharedPhones() {
+        return persons.findSharedPhones();
+    }
+
+    /**
+     * Returns each lowercase email address that more than one person has, with the ids of those persons.
+     */
+    public Map<String, Set<PersonId>> findSharedEmails() {
+        return persons.findSharedEmails();
+    }
+
+    /**
+     * Returns the ids of the persons whose tags match {@code query}.
+     */
+    public PersonIdSet findPersonIdsByTags(TagQuery query) {
+        requireNonNull(query);
+        return persons.findByTags(query);
+    }
+
+    /**
+     * Returns the persons whose name matches {@code name} case-insensitively.
+     */
+    public List<Person> findPersonsByName(Name name) {
+        requireNonNull(name);
+        return persons.findByName(name);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        relationships.indexPerson(p);
+        changeLog.record(p.getId());
     }
 
     /**
@@ -93,6 +231,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (!target.getId().equals(editedPerson.getId())) {
+            relationships.removePerson(target.getId());
+            relationships.indexPerson(editedPerson);
+            changeLog.record(target.getId());
+        }
+        changeLog.record(editedPerson.getId());
     }
 
     /**
@@ -101,6 +245,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        relationships.removePerson(key.getId());
+        changeLog.record(key.getId());
     }
 
     /**
@@ -109,6 +255,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addParent(Parent parent) {
         persons.add(parent);
+        relationships.indexPerson(parent);
+        changeLog.record(parent.getId());
     }
 
     /**
@@ -117,6 +265,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTutor(Tutor tutor) {
         persons.add(tutor);
+        relationships.indexPerson(tutor);
+        changeLog.record(tutor.getId());
     }
 
     /**
@@ -125,6 +275,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStudent(Student student) {
         persons.add(student);
+        relationships.indexPerson(student);
+        changeLog.record(student.getId());
     }
 
     //// TuitionClass level operations
@@ -142,6 +294,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTuitionClass(TuitionClass t) {
         tuitionClasses.add(t);
+        relationships.indexTuitionClass(t);
+        changeLog.record(t.getClassId());
     }
 
     /**
@@ -153,10 +307,172 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTuitionClass(TuitionClass target, TuitionClass editedTuitionClass) {
         requireNonNull(editedTuitionClass);
         tuitionClasses.setTuitionClass(target, editedTuitionClass);
+        if (target != editedTuitionClass) {
+            PersonIdSet formerStudentIds = relationships.removeTuitionClass(target.getClassId());
+            for (PersonId studentId : formerStudentIds) {
+                persons.findById(studentId).ifPresent(relationships::indexPerson);
+            }
+            relationships.indexTuitionClass(editedTuitionClass);
+            changeLog.record(target.getClassId());
+        }
+        changeLog.record(editedTuitionClass.getClassId());
     }
 
     public void setTuitionClasses(List<TuitionClass> tuitionClasses) {
         this.tuitionClasses.setTuitionClasses(tuitionClasses);
+        relationships.rebuild(persons, this.tuitionClasses);
+        changeLog.reset();
+    }
+
+    /**
+     * Returns the tuition class with the given {@code classId}, if any.
+     */
+    @Override
+    public Optional<TuitionClass> findTuitionClass(ClassId classId) {
+        requireNonNull(classId);
+        return tuitionClasses.find(classId);
+    }
+
+    //// relationship operations
+
+    /**
+     * Returns the classes taught by the tutor with the given id, ordered by day and time.
+     */
+    @Override
+    public List<TuitionClass> getClassesTaughtBy(PersonId tutorId) {
+        requireNonNull(tutorId);
+        return relationships.getClassesTaughtBy(tutorId).stream()
+                .map(tuitionClasses::find)
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(TuitionClass::getDay).thenComparing(TuitionClass::getTime))
+                .toList();
+    }
+
+    /**
+     * Returns the students enrolled in the class with the given id, in no particular order.
+     */
+    public List<Student> getStudentsInClass(ClassId classId) {
+        requireNonNull(classId);
+        PersonIdSet studentIds = relationships.getStudentsIn(classId);
+        List<Student> students = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            Optional<Person> person = persons.findById(studentIds.get(i));
+            if (person.isPresent() && person.get() instanceof Student) {
+                students.add((Student) person.get());
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Enrols {@code student} in {@code tuitionClass}, updating both entities and recording the change.
+     */
+    public void linkStudentToClass(Student student, TuitionClass tuitionClass) {
+        requireAllNonNull(student, tuitionClass);
+        student.setTuitionClass(tuitionClass);
+        tuitionClass.addStudentId(student.getId());
+        relationships.linkStudentToClass(student.getId(), tuitionClass.getClassId());
+        refresh(tuitionClass);
+        refresh(student);
+    }
+
+    /**
+     * Removes the student with the given id from the class they are enrolled in, if any.
+     */
+    public void unlinkStudentFromClass(PersonId studentId) {
+        requireNonNull(studentId);
+        Optional<TuitionClass> classOpt = relationships.getClassOf(studentId).flatMap(tuitionClasses::find);
+        relationships.unlinkStudentFromClass(studentId);
+        classOpt.ifPresent(tuitionClass -> {
+            tuitionClass.removeStudentId(studentId);
+            refresh(tuitionClass);
+        });
+        persons.findById(studentId)
+                .filter(person -> person instanceof Student)
+                .map(person -> (Student) person)
+                .ifPresent(student -> {
+                    student.clearTuitionClass();
+                    refresh(student);
+                });
+    }
+
+    /**
+     * Makes {@code tutor} the tutor of {@code tuitionClass}.
+     */
+    public void assignTutorToClass(Tutor tutor, TuitionClass tuitionClass) {
+        requireAllNonNull(tutor, tuitionClass);
+        tuitionClass.setTutorId(tutor.getId());
+        relationships.assignTutor(tuitionClass.getClassId(), tutor.getId());
+        refresh(tuitionClass);
+        refresh(tutor);
+    }
+
+    /**
+     * Removes the tutor of {@code tuitionClass}, if any.
+     */
+    public void unassignTutorFromClass(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        Optional<PersonId> tutorId = relationships.getTutorOf(tuitionClass.getClassId());
+        tuitionClass.removeTutorId();
+        relationships.unassignTutor(tuitionClass.getClassId());
+        refresh(tuitionClass);
+        tutorId.flatMap(persons::findById).ifPresent(this::refresh);
+    }
+
+    /**
+     * Removes the tutor with the given id from every class they teach.
+     */
+    public void unlinkTutorFromClasses(PersonId tutorId) {
+        requireNonNull(tutorId);
+        for (ClassId classId : List.copyOf(relationships.getClassesTaughtBy(tutorId))) {
+            tuitionClasses.find(classId).ifPresent(this::unassignTutorFromClass);
+        }
+    }
+
+    /**
+     * Makes {@code parent} the parent of {@code student}, unlinking the student from any previous parent.
+     */
+    public void linkStudentToParent(Student student, Parent parent) {
+        requireAllNonNull(student, parent);
+        unlinkStudentFromParent(student.getId());
+        student.setParentId(parent.getId());
+        parent.addChildId(student.getId());
+        relationships.linkChildToParent(student.getId(), parent.getId());
+        refresh(student);
+        refresh(parent);
+    }
+
+    /**
+     * Removes the link between the student with the given id and their parent, if any.
+     */
+    public void unlinkStudentFromParent(PersonId studentId) {
+        requireNonNull(studentId);
+        Optional<PersonId> parentId = relationships.getParentOf(studentId);
+        relationships.unlinkChild(studentId);
+        parentId.flatMap(persons::findById)
+                .filter(person -> person instanceof Parent)
+                .map(person -> (Parent) person)
+                .ifPresent(parent -> {
+                    parent.removeChildId(studentId);
+                    refresh(parent);
+                });
+        persons.findById(studentId)
+                .filter(person -> person instanceof Student)
+                .map(person -> (Student) person)
+                .ifPresent(student -> {
+                    student.clearParent();
+                    refresh(student);
+                });
+    }
+
+    /**
+     * Removes the links between the parent with the given id and all of their children.
+     */
+    public void unlinkChildrenFromParent(PersonId parentId) {
+        requireNonNull(parentId);
+        for (PersonId childId : List.copyOf(relationships.getChildrenOf(parentId))) {
+            unlinkStudentFromParent(childId);
+        }
     }
 
     @Override
@@ -164,6 +480,52 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tuitionClasses.asUnmodifiableObservableList();
     }
 
+    /**
+     * Records in the change log that the relationship fields of {@code person} were changed.
+     * Relationship fields are not indexed by the person list and do not decide which persons are shown, so the person
+     * is not replaced in the list; views find the persons to show again from the change log.
+     */
+    private void refresh(Person person) {
+        changeLog.record(person.getId());
+    }
+
+    private void refresh(TuitionClass tuitionClass) {
+        tuitionClasses.setTuitionClass(tuitionClass, tuitionClass);
+        changeLog.record(tuitionClass.getClassId());
+    }
+
+    //// change tracking
+
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<AddressBookChanges> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
+    /**
+     * Returns the ids of the persons in this address book that show something changed in {@code changes}: the
+     * changed persons, their parents and children, and the tutors and students of the changed classes.
+     */
+    public Set<PersonId> findAffectedPersonIds(AddressBookChanges changes) {
+        requireNonNull(changes);
+        PersonIdSet affected = new PersonIdSet();
+        for (PersonId personId : changes.getPersonIds()) {
+            affected.add(personId);
+            relationships.getParentOf(personId).ifPresent(affected::add);
+            affected.addAll(relationships.getChildrenOf(personId));
+        }
+        for (ClassId classId : changes.getClassIds()) {
+            relationships.getTutorOf(classId).ifPresent(affected::add);
+            affected.addAll(relationships.getStudentsIn(classId));
+        }
+        affected.removeIf(personId -> persons.findById(personId).isEmpty());
+        return affected;
+    }
+
     //// util methods
 
     @Override
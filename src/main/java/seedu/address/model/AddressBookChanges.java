@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+
+/**
+ * The ids of the persons and tuition classes of an address book that were added, modified or removed over some
+ * span of versions. Whether an id was added, modified or removed is found by looking it up in the address book.
+ * Ids are kept in the order in which they were first changed.
+ */
+public final class AddressBookChanges {
+
+    private final Set<PersonId> personIds;
+    private final Set<ClassId> classIds;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AddressBookChanges(Set<PersonId> personIds, Set<ClassId> classIds) {
+        requireAllNonNull(personIds, classIds);
+        this.personIds = Collections.unmodifiableSet(new LinkedHashSet<>(personIds));
+        this.classIds = Collections.unmodifiableSet(new LinkedHashSet<>(classIds));
+    }
+
+    public Set<PersonId> getPersonIds() {
+        return personIds;
+    }
+
+    public Set<ClassId> getClassIds() {
+        return classIds;
+    }
+
+    public boolean isEmpty() {
+        return personIds.isEmpty() && classIds.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return personIds.equals(otherChanges.personIds)
+                && classIds.equals(otherChanges.classIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return personIds.hashCode() * 31 + classIds.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personIds", personIds)
+                .add("classIds", classIds)
+                .toString();
+    }
+}
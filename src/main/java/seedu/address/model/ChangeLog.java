@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+
+/**
+ * A bounded, versioned record of which persons and classes of an {@link AddressBook} have changed.
+ *
+ * Every recorded change bumps the version by one. Only the most recent {@code capacity} changes are retained, and a
+ * {@link #reset()} forgets all of them, so callers asking about versions older than what is retained are told that
+ * the changes are no longer known.
+ */
+class ChangeLog {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final int capacity;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long version;
+    private long oldestKnownVersion;
+
+    ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ChangeLog(int capacity) {
+        this.capacity = capacity;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    void record(PersonId personId) {
+        requireNonNull(personId);
+        append(new Entry(++version, personId, null));
+    }
+
+    void record(ClassId classId) {
+        requireNonNull(classId);
+        append(new Entry(++version, null, classId));
+    }
+
+    /**
+     * Bumps the version and forgets every recorded change, for when the whole address book is replaced.
+     */
+    void reset() {
+        entries.clear();
+        oldestKnownVersion = ++version;
+    }
+
+    /**
+     * Returns the ids changed after {@code sinceVersion} in the order they were first changed, or
+     * {@code Optional.empty()} if some of those changes are no longer retained.
+     */
+    Optional<AddressBookChanges> getChangesSince(long sinceVersion) {
+        if (sinceVersion < oldestKnownVersion || sinceVersion > version) {
+            return Optional.empty();
+        }
+
+        // Walk back to the first entry after sinceVersion, then collect forwards
+        Deque<Entry> window = new ArrayDeque<>();
+        Iterator<Entry> newestFirst = entries.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Entry entry = newestFirst.next();
+            if (entry.version <= sinceVersion) {
+                break;
+            }
+            window.addFirst(entry);
+        }
+
+        Set<PersonId> personIds = new LinkedHashSet<>();
+        Set<ClassId> classIds = new LinkedHashSet<>();
+        for (Entry entry : window) {
+            if (entry.personId != null) {
+                personIds.add(entry.personId);
+            } else {
+                classIds.add(entry.classId);
+            }
+        }
+        return Optional.of(new AddressBookChanges(personIds, classIds));
+    }
+
+    private void append(Entry entry) {
+        entries.addLast(entry);
+        if (entries.size() > capacity) {
+            oldestKnownVersion = entries.removeFirst().version;
+        }
+    }
+
+    private static class Entry {
+        private final long version;
+        private final PersonId personId;
+        private final ClassId classId;
+
+        Entry(long version, PersonId personId, ClassId classId) {
+            this.version = version;
+            this.personId = personId;
+            this.classId = classId;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+
+/**
+ * The persons shown to the user: those matching the query set by the last listing command, together with the persons
+ * added since, and the shown persons edited since, so that changes stay in view without the query being cleared.
+ *
+ * The shown persons are kept in address book order. Changes to single persons in the address book are applied by
+ * testing only the person that changed and placing them with {@link AddressBook#getPersonListOrder()}. Setting a query
+ * tests every person, but showing the persons with a set of ids, as found by one of the address book's indexes, looks
+ * up only those persons.
+ */
+class FilteredPersonView {
+
+    private final AddressBook addressBook;
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableShownPersons =
+            FXCollections.unmodifiableObservableList(shownPersons);
+    private final PersonIdSet pinned = new PersonIdSet();
+    private Predicate<Person> query = Model.PREDICATE_SHOW_ALL_PERSONS;
+
+    /**
+     * Creates a view of the persons in {@code addressBook} that shows all of them.
+     */
+    FilteredPersonView(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        shownPersons.setAll(addressBook.getPersonList());
+        addressBook.getPersonList().addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the persons shown, which follows changes to the address book.
+     */
+    ObservableList<Person> asObservableList() {
+        return unmodifiableShownPersons;
+    }
+
+    /**
+     * Shows only the persons matching {@code query}.
+     */
+    void setQuery(Predicate<Person> query) {
+        requireNonNull(query);
+        this.query = query;
+        pinned.clear();
+        refilter();
+    }
+
+    /**
+     * Shows only the persons with the given {@code ids}, without testing any other person.
+     */
+    void setShownIds(PersonIdSet ids) {
+        requireNonNull(ids);
+        PersonIdSet shownIds = new PersonIdSet(ids);
+        query = person -> shownIds.contains(person.getId());
+        pinned.clear();
+        shownPersons.setAll(addressBook.findPersonsByIds(shownIds));
+    }
+
+    /**
+     * Keeps the person with {@code id} shown whether or not they match the query.
+     * Must be called before the person is added or replaced in the address book for the change to show.
+     */
+    void pin(PersonId id) {
+        requireNonNull(id);
+        if (query != Model.PREDICATE_SHOW_ALL_PERSONS) {
+            pinned.add(id);
+        }
+    }
+
+    /**
+     * Forgets that the person with {@code id} was pinned, once they are no longer in the address book.
+     */
+    void unpin(PersonId id) {
+        requireNonNull(id);
+        pinned.remove(id);
+    }
+
+    /**
+     * Returns true if {@code person} is shown, or would be if they were in the address book.
+     */
+    boolean isShown(Person person) {
+        return pinned.contains(person.getId()) || query.test(person);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                // The address book was replaced as a whole
+                refilter();
+                return;
+            }
+            for (Person removed : change.getRemoved()) {
+                hide(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (isShown(added)) {
+                    show(added);
+                }
+            }
+        }
+    }
+
+    private void show(Person person) {
+        int index = Collections.binarySearch(shownPersons, person, addressBook.getPersonListOrder());
+        shownPersons.add(index < 0 ? -index - 1 : index, person);
+    }
+
+    private void hide(Person person) {
+        // The address book still has the order key of a person it removes while telling its listeners
+        int index = Collections.binarySearch(shownPersons, person, addressBook.getPersonListOrder());
+        if (index >= 0 && shownPersons.get(index) == person) {
+            shownPersons.remove(index);
+        }
+    }
+
+    private void refilter() {
+        List<Person> matches = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (isShown(person)) {
+                matches.add(person);
+            }
+        }
+        shownPersons.setAll(matches);
+    }
+}
@@ -2,19 +2,25 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 
@@ -127,9 +133,53 @@ public interface Model {
     /**
      * Finds and returns a set of PersonId belonging to a specified category.
      * @param category The category of people to be retrieved.
-     * @return A Set containing PersonId found.
+     * @return A PersonIdSet containing PersonId found.
      */
-    Set<PersonId> getPersonIdsByCategory(Category category);
+    PersonIdSet getPersonIdsByCategory(Category category);
+
+    /**
+     * Returns up to {@code limit} names of persons that start with {@code prefix}, ignoring case, in alphabetical
+     * order.
+     */
+    List<Name> getNamesByPrefix(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} names of persons matching {@code predicate} that are within a few edits of
+     * {@code name}, ignoring case, closest first. Used to suggest what the user may have meant by a name that is not
+     * found.
+     */
+    List<Name> getSimilarNames(Name name, Predicate<Person> predicate, int limit);
+
+    /**
+     * Finds and returns the set of PersonId of the persons whose names contain any of {@code keywords} as a whole
+     * word, ignoring case.
+     */
+    PersonIdSet getPersonIdsByNameKeywords(List<String> keywords);
+
+    /**
+     * Finds and returns the set of PersonId of the persons with the phone number {@code phone}.
+     */
+    PersonIdSet getPersonIdsByPhone(Phone phone);
+
+    /**
+     * Finds and returns the set of PersonId of the persons with the email address {@code email}, ignoring case.
+     */
+    PersonIdSet getPersonIdsByEmail(Email email);
+
+    /**
+     * Returns each phone number that more than one person has, with the ids of those persons.
+     */
+    Map<String, Set<PersonId>> getSharedPhones();
+
+    /**
+     * Returns each email address, in lower case, that more than one person has, with the ids of those persons.
+     */
+    Map<String, Set<PersonId>> getSharedEmails();
+
+    /**
+     * Finds and returns the set of PersonId of the persons whose tags match {@code query}.
+     */
+    PersonIdSet getPersonIdsByTags(TagQuery query);
 
     //=========== TuitionClass =====================================================================
 
@@ -159,13 +209,30 @@ public interface Model {
      */
     Optional<TuitionClass> findTuitionClass(ClassId classId);
 
+    /**
+     * Enrols {@code student} in {@code tuitionClass}.
+     * Both must exist in the address book and the student must not already be in a class.
+     */
+    void linkStudentToClass(Student student, TuitionClass tuitionClass);
+
+    /**
+     * Makes {@code tutor} the tutor of {@code tuitionClass}.
+     * Both must exist in the address book.
+     */
+    void assignTutorToClass(Tutor tutor, TuitionClass tuitionClass);
+
+    /**
+     * Removes the tutor of {@code tuitionClass}, if any.
+     */
+    void unassignTutorFromClass(TuitionClass tuitionClass);
+
     /**
      * Returns an unmodifiable view of the tuition class list.
      */
     ObservableList<TuitionClass> getTuitionClassList();
 
     /**
-     * Returns all tuition classes taught by a specific tutor.
+     * Returns all tuition classes taught by a specific tutor, ordered by day and time.
      * @param tutor The tutor whose classes are to be retrieved.
      * @return A list of {@code TuitionClass} objects associated with the given tutor.
      */
@@ -192,15 +259,51 @@ public interface Model {
 
     //=========== Filtered Person List Accessors =============================================================
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Returns an unmodifiable view of the filtered person list.
+     * Persons added, and shown persons edited, since the filter was last updated are shown whether or not they match
+     * the filter.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in place as persons are added, edited and deleted, until it is next updated.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only the persons with the given {@code personIds},
+     * such as those found by {@link #getPersonIdsByTags} or {@link #getPersonIdsByNameKeywords}. Only those persons are
+     * looked up, rather than every person being tested. The filter stays in place as for
+     * {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code personIds} is null.
+     */
+    void updateFilteredPersonListByIds(PersonIdSet personIds);
+
+    //=========== Change notification ========================================================================
+
+    /**
+     * Sets the listener told about each batch of changes published with {@link #publishChanges()}. It is given the
+     * ids of the persons affected: the changed persons and their relationship neighbours, whose displayed
+     * relationships may have changed with them. The ids are empty if only which persons are shown has changed.
+     * The listener is called on the thread publishing the changes, while the model is not being changed.
+     */
+    void setPersonsChangedListener(Consumer<Set<PersonId>> listener);
+
+    /**
+     * Tells the listener set with {@link #setPersonsChangedListener} about the changes to the address book and to
+     * the filtered person list since changes were last published, if there are any.
+     */
+    void publishChanges();
+
+    /**
+     * Links {@code student} to {@code parent}, unlinking the student from any previous parent.
+     * Both must exist in the address book.
+     */
+    void linkStudentToParent(Student student, Parent parent);
+
     /**
      * Unlinks a parent from all linked students.
      * @param parentId The ID of the parent to unlink.
@@ -4,25 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 
@@ -34,8 +42,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonView filteredPersons;
     private final FilteredList<TuitionClass> filteredTuitionClasses;
+    private long publishedVersion;
+    private boolean hasShownPersonsChanged;
+    private Consumer<Set<PersonId>> personsChangedListener = personIds -> {};
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -47,8 +58,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonView(this.addressBook);
         filteredTuitionClasses = new FilteredList<>(this.addressBook.getTuitionClassList());
+        publishedVersion = this.addressBook.getVersion();
+        filteredPersons.asObservableList().addListener((ListChangeListener<Person>) change ->
+                hasShownPersonsChanged = true);
     }
 
     public ModelManager() {
@@ -129,120 +143,136 @@ public class ModelManager implements Model {
         }
 
         addressBook.removePerson(target);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        filteredPersons.unpin(target.getId());
     }
 
     @Override
     public void addPerson(Person person) {
+        filteredPersons.pin(person.getId());
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addParent(Parent parent) {
+        filteredPersons.pin(parent.getId());
         addressBook.addParent(parent);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addTutor(Tutor tutor) {
+        filteredPersons.pin(tutor.getId());
         addressBook.addTutor(tutor);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addStudent(Student student) {
+        filteredPersons.pin(student.getId());
         addressBook.addStudent(student);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if (filteredPersons.isShown(target)) {
+            filteredPersons.pin(editedPerson.getId());
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
     @Override
     public List<Person> findPersonByName(Name name) {
         requireNonNull(name);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getName().toString().trim().replaceAll("\\s+", " ")
-                        .equalsIgnoreCase(name.toString().trim().replaceAll("\\s+", " ")))
-                .toList();
+        return addressBook.findPersonsByName(name);
     }
 
     @Override
     public Optional<Person> findPersonById(PersonId id) {
         requireNonNull(id);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getId().equals(id))
-                .findFirst();
+        return addressBook.findPersonById(id);
     }
 
     @Override
-    public Set<PersonId> getPersonIdsByCategory(Category category) {
+    public PersonIdSet getPersonIdsByCategory(Category category) {
         return addressBook.getPersonList().stream()
                 .filter(p -> p.getCategory() == category)
                 .map(p -> p.getId())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(PersonIdSet::new));
+    }
+
+    @Override
+    public List<Name> getNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.findNamesByPrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Name> getSimilarNames(Name name, Predicate<Person> predicate, int limit) {
+        requireAllNonNull(name, predicate);
+        return addressBook.findSimilarNames(name, predicate, limit);
+    }
+
+    @Override
+    public PersonIdSet getPersonIdsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonIdsByNameKeywords(keywords);
+    }
+
+    @Override
+    public PersonIdSet getPersonIdsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonIdsByPhone(phone);
+    }
+
+    @Override
+    public PersonIdSet getPersonIdsByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findPersonIdsByEmail(email);
+    }
+
+    @Override
+    public Map<String, Set<PersonId>> getSharedPhones() {
+        return addressBook.findSharedPhones();
+    }
+
+    @Override
+    public Map<String, Set<PersonId>> getSharedEmails() {
+        return addressBook.findSharedEmails();
+    }
+
+    @Override
+    public PersonIdSet getPersonIdsByTags(TagQuery query) {
+        requireNonNull(query);
+        return addressBook.findPersonIdsByTags(query);
+    }
+
+    @Override
+    public void linkStudentToParent(Student student, Parent parent) {
+        requireAllNonNull(student, parent);
+        addressBook.linkStudentToParent(student, parent);
     }
 
     @Override
     public void unlinkParentFromStudent(PersonId parentId) {
         requireNonNull(parentId);
-
-        List<Person> allPersons = addressBook.getPersonList();
-        for (Person person : allPersons) {
-            if (person instanceof Student) {
-                Student student = (Student) person;
-                if (parentId.equals(student.getParentId())) {
-                    student.clearParent();
-                    break;
-                }
-            }
-        }
+        addressBook.unlinkChildrenFromParent(parentId);
     }
 
     @Override
     public void unlinkStudentFromParent(PersonId studentId) {
         requireNonNull(studentId);
-        List<Person> allPersons = addressBook.getPersonList();
-
-        for (Person person : allPersons) {
-            if (person instanceof Parent) {
-                Parent parent = (Parent) person;
-                Set<PersonId> children = parent.getChildrenIds();
-                if (children.contains(studentId)) {
-                    parent.removeChildId(studentId);
-                    addressBook.setPerson(parent, parent);
-                }
-            }
-        }
+        addressBook.unlinkStudentFromParent(studentId);
     }
 
     @Override
     public void unlinkTutorFromClasses(PersonId tutorId) {
         requireNonNull(tutorId);
-        List<TuitionClass> allClasses = addressBook.getTuitionClassList();
-
-        for (TuitionClass tuitionClass : allClasses) {
-            if (tutorId.equals(tuitionClass.getTutorId())) {
-                tuitionClass.removeTutorId();
-            }
-        }
+        addressBook.unlinkTutorFromClasses(tutorId);
     }
 
     @Override
     public void unlinkStudentFromClasses(PersonId studentId) {
         requireNonNull(studentId);
-        List<TuitionClass> allClasses = addressBook.getTuitionClassList();
-
-        for (TuitionClass tuitionClass : allClasses) {
-            if (tuitionClass.getStudentIds().contains(studentId)) {
-                tuitionClass.removeStudentId(studentId);
-                break;
-            }
-        }
+        addressBook.unlinkStudentFromClass(studentId);
     }
 
     //=========== TuitionClass =====================================================================
@@ -268,9 +298,25 @@ public class ModelManager implements Model {
     @Override
     public Optional<TuitionClass> findTuitionClass(ClassId classId) {
         requireNonNull(classId);
-        return addressBook.getTuitionClassList().stream()
-                .filter(tuitionClass -> tuitionClass.getClassId().equals(classId))
-                .findFirst();
+        return addressBook.findTuitionClass(classId);
+    }
+
+    @Override
+    public void linkStudentToClass(Student student, TuitionClass tuitionClass) {
+        requireAllNonNull(student, tuitionClass);
+        addressBook.linkStudentToClass(student, tuitionClass);
+    }
+
+    @Override
+    public void assignTutorToClass(Tutor tutor, TuitionClass tuitionClass) {
+        requireAllNonNull(tutor, tuitionClass);
+        addressBook.assignTutorToClass(tutor, tuitionClass);
+    }
+
+    @Override
+    public void unassignTutorFromClass(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        addressBook.unassignTutorFromClass(tuitionClass);
     }
 
     @Override
@@ -280,19 +326,16 @@ public class ModelManager implements Model {
 
     @Override
     public List<TuitionClass> getClassesByTutor(Tutor tutor) {
-        return getTuitionClassList().stream()
-                .filter(tuitionClass -> tutor.getId().equals(tuitionClass.getTutorId()))
-                .toList();
+        requireNonNull(tutor);
+        return addressBook.getClassesTaughtBy(tutor.getId());
     }
 
     @Override
     public List<Student> getStudentsInClass(TuitionClass tuitionClass) {
-        return getAddressBook().getPersonList().stream()
-                .filter(t -> tuitionClass.getStudentIds().contains(t.getId()))
-                .filter(p -> p instanceof Student)
-                .map(t -> (Student) t)
-                .sorted(Comparator.comparing(a -> a.getName().toString()))
-                .toList();
+        requireNonNull(tuitionClass);
+        List<Student> students = addressBook.getStudentsInClass(tuitionClass.getClassId());
+        students.sort(Comparator.comparing(a -> a.getName().toString()));
+        return Collections.unmodifiableList(students);
     }
 
     //=========== Filtered Tuition Class List Accessors ============================================
@@ -316,13 +359,48 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setQuery(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByIds(PersonIdSet personIds) {
+        requireNonNull(personIds);
+        filteredPersons.setShownIds(personIds);
+    }
+
+    //=========== Change notification ========================================================================
+
+    @Override
+    public void setPersonsChangedListener(Consumer<Set<PersonId>> listener) {
+        requireNonNull(listener);
+        personsChangedListener = listener;
+    }
+
+    @Override
+    public void publishChanges() {
+        long version = addressBook.getVersion();
+        if (version == publishedVersion && !hasShownPersonsChanged) {
+            return;
+        }
+
+        Set<PersonId> affectedIds = Set.of();
+        if (version != publishedVersion) {
+            // Changes no longer retained, as after the whole address book is replaced, affect everyone
+            affectedIds = addressBook.getChangesSince(publishedVersion)
+                    .map(addressBook::findAffectedPersonIds)
+                    .orElseGet(() -> addressBook.getPersonList().stream()
+                            .map(Person::getId)
+                            .collect(Collectors.toSet()));
+        }
+        publishedVersion = version;
+        hasShownPersonsChanged = false;
+        personsChangedListener.accept(affectedIds);
     }
 
     @Override
@@ -339,7 +417,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList())
                 && filteredTuitionClasses.equals(otherModelManager.filteredTuitionClasses);
     }
 
@@ -1,7 +1,13 @@
 package seedu.address.model;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
@@ -21,6 +27,46 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<TuitionClass> getTuitionClassList();
 
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    default Optional<Person> findPersonById(PersonId id) {
+        return getPersonList().stream()
+                .filter(person -> person.getId().equals(id))
+                .findFirst();
+    }
 
+    /**
+     * Returns the tuition class with the given {@code classId}, if any.
+     */
+    default Optional<TuitionClass> findTuitionClass(ClassId classId) {
+        return getTuitionClassList().stream()
+                .filter(tuitionClass -> tuitionClass.getClassId().equals(classId))
+                .findFirst();
+    }
 
+    /**
+     * Returns the classes taught by the tutor with the given id, ordered by day and time.
+     */
+    default List<TuitionClass> getClassesTaughtBy(PersonId tutorId) {
+        return getTuitionClassList().stream()
+                .filter(tuitionClass -> tutorId.equals(tuitionClass.getTutorId()))
+                .sorted(Comparator.comparing(TuitionClass::getDay).thenComparing(TuitionClass::getTime))
+                .toList();
+    }
+
+    /**
+     * Returns a number that grows every time the data in this address book changes.
+     */
+    default long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Returns the persons and classes changed after {@code version}, or {@code Optional.empty()} if that is no
+     * longer known and the address book must be treated as entirely changed.
+     */
+    default Optional<AddressBookChanges> getChangesSince(long version) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,226 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Indexes the links between persons and tuition classes in both directions, so that the neighbours of any
+ * student, tutor, parent or class can be found without scanning the address book.
+ *
+ * The graph mirrors the relationship fields stored on the entities themselves ({@code Student#getClassId()},
+ * {@code TuitionClass#getStudentIds()}, {@code TuitionClass#getTutorId()}, {@code Parent#getChildrenIds()} and
+ * {@code Student#getParentId()}). It is rebuilt from those fields whenever the address book is bulk loaded and is
+ * kept in step by {@link AddressBook} as links are added and removed.
+ *
+ * Class rosters and children are kept as {@link PersonIdSet}s, which the getters return as read-only views so that
+ * callers can look up and iterate over them without allocating, but cannot change the graph through them. The views
+ * show later changes to the graph, so callers that change links while iterating must copy them first.
+ */
+class RelationshipGraph {
+
+    private final Map<ClassId, PersonIdSet> studentsByClass = new HashMap<>();
+    private final Map<PersonId, ClassId> classByStudent = new HashMap<>();
+    private final Map<ClassId, PersonId> tutorByClass = new HashMap<>();
+    private final Map<PersonId, Set<ClassId>> classesByTutor = new HashMap<>();
+    private final Map<PersonId, PersonIdSet> childrenByParent = new HashMap<>();
+    private final Map<PersonId, PersonId> parentByChild = new HashMap<>();
+
+    /**
+     * Discards all edges and rebuilds the graph from the relationship fields of {@code persons} and
+     * {@code tuitionClasses}.
+     */
+    void rebuild(Iterable<Person> persons, Iterable<TuitionClass> tuitionClasses) {
+        requireAllNonNull(persons, tuitionClasses);
+        studentsByClass.clear();
+        classByStudent.clear();
+        tutorByClass.clear();
+        classesByTutor.clear();
+        childrenByParent.clear();
+        parentByChild.clear();
+
+        for (Person person : persons) {
+            indexPerson(person);
+        }
+        for (TuitionClass tuitionClass : tuitionClasses) {
+            indexTuitionClass(tuitionClass);
+        }
+    }
+
+    /**
+     * Adds the edges recorded on {@code person} to the graph.
+     */
+    void indexPerson(Person person) {
+        requireNonNull(person);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            student.getClassId().ifPresent(classId -> linkStudentToClass(student.getId(), classId));
+            if (student.getParentId() != null) {
+                linkChildToParent(student.getId(), student.getParentId());
+            }
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            for (PersonId childId : parent.getChildrenIds()) {
+                linkChildToParent(childId, parent.getId());
+            }
+        }
+    }
+
+    /**
+     * Adds the edges recorded on {@code tuitionClass} to the graph.
+     */
+    void indexTuitionClass(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        ClassId classId = tuitionClass.getClassId();
+        if (tuitionClass.getTutorId() != null) {
+            assignTutor(classId, tuitionClass.getTutorId());
+        }
+        for (PersonId studentId : tuitionClass.getStudentIds()) {
+            linkStudentToClass(studentId, classId);
+        }
+    }
+
+    /**
+     * Removes every edge that touches the person with the given {@code personId}.
+     */
+    void removePerson(PersonId personId) {
+        requireNonNull(personId);
+        unlinkStudentFromClass(personId);
+        unlinkChild(personId);
+        for (PersonId childId : Set.copyOf(getChildrenOf(personId))) {
+            unlinkChild(childId);
+        }
+        for (ClassId classId : Set.copyOf(getClassesTaughtBy(personId))) {
+            unassignTutor(classId);
+        }
+    }
+
+    /**
+     * Removes every edge that touches the class with the given {@code classId}, and returns the ids of the students
+     * who were in it.
+     */
+    PersonIdSet removeTuitionClass(ClassId classId) {
+        requireNonNull(classId);
+        unassignTutor(classId);
+        PersonIdSet studentIds = studentsByClass.remove(classId);
+        if (studentIds == null) {
+            return PersonIdSet.empty();
+        }
+        for (PersonId studentId : studentIds) {
+            classByStudent.remove(studentId);
+        }
+        return studentIds;
+    }
+
+    /**
+     * Places the student in the given class, moving them out of any class they were previously in.
+     */
+    void linkStudentToClass(PersonId studentId, ClassId classId) {
+        requireAllNonNull(studentId, classId);
+        unlinkStudentFromClass(studentId);
+        classByStudent.put(studentId, classId);
+        studentsByClass.computeIfAbsent(classId, k -> new PersonIdSet()).add(studentId);
+    }
+
+    /**
+     * Removes the student from the class they are in, if any.
+     */
+    void unlinkStudentFromClass(PersonId studentId) {
+        requireNonNull(studentId);
+        ClassId classId = classByStudent.remove(studentId);
+        if (classId != null) {
+            removeFromBucket(studentsByClass, classId, studentId);
+        }
+    }
+
+    /**
+     * Makes {@code tutorId} the tutor of the given class, replacing any previous tutor.
+     */
+    void assignTutor(ClassId classId, PersonId tutorId) {
+        requireAllNonNull(classId, tutorId);
+        unassignTutor(classId);
+        tutorByClass.put(classId, tutorId);
+        classesByTutor.computeIfAbsent(tutorId, k -> new HashSet<>()).add(classId);
+    }
+
+    /**
+     * Removes the tutor of the given class, if any.
+     */
+    void unassignTutor(ClassId classId) {
+        requireNonNull(classId);
+        PersonId tutorId = tutorByClass.remove(classId);
+        if (tutorId != null) {
+            removeFromBucket(classesByTutor, tutorId, classId);
+        }
+    }
+
+    /**
+     * Makes {@code parentId} the parent of {@code childId}, replacing any previous parent.
+     */
+    void linkChildToParent(PersonId childId, PersonId parentId) {
+        requireAllNonNull(childId, parentId);
+        unlinkChild(childId);
+        parentByChild.put(childId, parentId);
+        childrenByParent.computeIfAbsent(parentId, k -> new PersonIdSet()).add(childId);
+    }
+
+    /**
+     * Removes the link between {@code childId} and their parent, if any.
+     */
+    void unlinkChild(PersonId childId) {
+        requireNonNull(childId);
+        PersonId parentId = parentByChild.remove(childId);
+        if (parentId != null) {
+            removeFromBucket(childrenByParent, parentId, childId);
+        }
+    }
+
+    Optional<ClassId> getClassOf(PersonId studentId) {
+        return Optional.ofNullable(classByStudent.get(studentId));
+    }
+
+    PersonIdSet getStudentsIn(ClassId classId) {
+        return studentsByClass.getOrDefault(classId, PersonIdSet.empty()).asUnmodifiable();
+    }
+
+    Optional<PersonId> getTutorOf(ClassId classId) {
+        return Optional.ofNullable(tutorByClass.get(classId));
+    }
+
+    Set<ClassId> getClassesTaughtBy(PersonId tutorId) {
+        return Collections.unmodifiableSet(classesByTutor.getOrDefault(tutorId, Set.of()));
+    }
+
+    Optional<PersonId> getParentOf(PersonId childId) {
+        return Optional.ofNullable(parentByChild.get(childId));
+    }
+
+    PersonIdSet getChildrenOf(PersonId parentId) {
+        return childrenByParent.getOrDefault(parentId, PersonIdSet.empty()).asUnmodifiable();
+    }
+
+    private static <K, V, S extends Set<V>> void removeFromBucket(Map<K, S> buckets, K key, V value) {
+        S bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(value);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> pool = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,6 +34,16 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns the shared {@code Address} with the given value. Parsers and storage use this, so that persons in the
+     * same household share a single instance.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return pool.intern(new Address(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
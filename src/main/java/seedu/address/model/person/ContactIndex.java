@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from a normalized contact detail, such as a phone number or a lowercase email address, to the persons who
+ * have it, for {@link UniquePersonList}.
+ *
+ * The details that more than one person has are tracked as persons are added and removed, so reporting them only
+ * touches the shared details rather than every person.
+ */
+class ContactIndex {
+
+    private final Function<Person, String> keyOf;
+    private final Map<String, PersonIdSet> personsByKey = new HashMap<>();
+    private final Set<String> sharedKeys = new HashSet<>();
+
+    /**
+     * Creates an empty index of the detail that {@code keyOf} extracts from a person.
+     */
+    ContactIndex(Function<Person, String> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Adds {@code person}'s detail to the index.
+     */
+    void add(Person person) {
+        String key = keyOf.apply(person);
+        PersonIdSet persons = personsByKey.computeIfAbsent(key, k -> new PersonIdSet());
+        persons.add(person.getId());
+        if (persons.size() > 1) {
+            sharedKeys.add(key);
+        }
+    }
+
+    /**
+     * Removes {@code person}'s detail from the index.
+     */
+    void remove(Person person) {
+        String key = keyOf.apply(person);
+        PersonIdSet persons = personsByKey.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person.getId());
+        if (persons.size() < 2) {
+            sharedKeys.remove(key);
+        }
+        if (persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByKey.clear();
+        sharedKeys.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose detail has the normalized form {@code key}.
+     */
+    PersonIdSet find(String key) {
+        requireNonNull(key);
+        PersonIdSet persons = personsByKey.get(key);
+        return persons == null ? new PersonIdSet() : new PersonIdSet(persons);
+    }
+
+    /**
+     * Returns each detail that more than one person has, with the ids of those persons.
+     */
+    Map<String, Set<PersonId>> findShared() {
+        Map<String, Set<PersonId>> shared = new HashMap<>();
+        for (String key : sharedKeys) {
+            shared.put(key, new PersonIdSet(personsByKey.get(key)));
+        }
+        return shared;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -51,6 +53,14 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-insensitive lookup key of this email.
+     * Email addresses are compared ignoring case, as mail servers treat them in practice.
+     */
+    public String toKey() {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return value;
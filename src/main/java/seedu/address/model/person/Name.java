@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String key;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name.trim().replaceAll("\\s+", " ");
+        key = fullName.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -38,6 +43,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-insensitive lookup key of this name.
+     * Two names refer to the same person exactly when their keys are equal.
+     */
+    public String toKey() {
+        return key;
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An inverted index from each lowercase word of a name to the persons whose names contain it, for
+ * {@link UniquePersonList}.
+ *
+ * Looking up keywords only touches the postings of those keywords, so the cost of a search depends on how many
+ * persons match rather than on how many persons there are.
+ */
+class NameTokenIndex {
+
+    private final Map<String, PersonIdSet> personsByToken = new HashMap<>();
+
+    /**
+     * Adds the words of {@code person}'s name to the index.
+     */
+    void add(Person person) {
+        for (String token : tokensOf(person.getName())) {
+            personsByToken.computeIfAbsent(token, k -> new PersonIdSet()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes the words of {@code person}'s name from the index.
+     */
+    void remove(Person person) {
+        for (String token : tokensOf(person.getName())) {
+            PersonIdSet persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person.getId());
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    PersonIdSet find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        PersonIdSet matches = new PersonIdSet();
+        for (String keyword : keywords) {
+            PersonIdSet persons = personsByToken.get(keyword.trim().toLowerCase(Locale.ROOT));
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    private static String[] tokensOf(Name name) {
+        // the key is already lowercase with single spaces between words
+        return name.toKey().split(" ");
+    }
+}
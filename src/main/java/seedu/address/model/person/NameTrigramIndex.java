@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from each three-character sequence of a name to the persons whose names contain it, for
+ * {@link UniquePersonList}, used to find names that are close to a misspelt one.
+ *
+ * Names are padded with two spaces in front and one behind, so that even short names have several trigrams and the
+ * start of a name counts for more. Each edit to a name changes at most four of its distinct trigrams, so a name within
+ * {@code k} edits of a query shares all but {@code 4k} of the query's trigrams. Only the postings of the query's
+ * trigrams are read to find such names, and only those are compared character by character.
+ */
+class NameTrigramIndex {
+
+    /** Each edit, counting a transposition of adjacent characters as one, changes at most this many trigrams. */
+    private static final int TRIGRAMS_PER_EDIT = 4;
+
+    private final Map<String, PersonIdSet> personsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the trigrams of {@code person}'s name to the index.
+     */
+    void add(Person person) {
+        for (String trigram : trigramsOf(person.getName().toKey())) {
+            personsByTrigram.computeIfAbsent(trigram, k -> new PersonIdSet()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes the trigrams of {@code person}'s name from the index.
+     */
+    void remove(Person person) {
+        for (String trigram : trigramsOf(person.getName().toKey())) {
+            PersonIdSet persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person.getId());
+            if (persons.isEmpty()) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personsByTrigram.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose name keys could be within {@code maxDistance} edits of {@code key}.
+     * Every such person is returned, but some of the returned persons may be further away.
+     */
+    List<PersonId> findCandidates(String key, int maxDistance) {
+        requireNonNull(key);
+        Set<String> trigrams = trigramsOf(key);
+        int minShared = Math.max(1, trigrams.size() - TRIGRAMS_PER_EDIT * maxDistance);
+
+        Map<PersonId, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            PersonIdSet persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                continue;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                sharedCounts.merge(persons.get(i), 1, Integer::sum);
+            }
+        }
+
+        List<PersonId> candidates = new ArrayList<>();
+        sharedCounts.forEach((id, shared) -> {
+            if (shared >= minShared) {
+                candidates.add(id);
+            }
+        });
+        return candidates;
+    }
+
+    private static Set<String> trigramsOf(String key) {
+        String padded = "  " + key + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -3,8 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.tag.Tag;
 
@@ -14,7 +14,8 @@ import seedu.address.model.tag.Tag;
 public class Parent extends Person {
 
     // each parent can have multiple children (students)
-    private final Set<PersonId> childrenIds = new HashSet<>();
+    private final PersonIdSet childrenIds = new PersonIdSet();
+    private final Set<PersonId> childrenIdsView = Collections.unmodifiableSet(childrenIds);
 
     public Parent(Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         super(category, name, phone, email, address, tags);
@@ -24,8 +25,12 @@ public class Parent extends Person {
         super(id, category, name, phone, email, address, tags);
     }
 
+    public Parent(PersonId id, Category category, Name name, Phone phone, Supplier<PersonDetails> detailsLoader) {
+        super(id, category, name, phone, detailsLoader);
+    }
+
     public Set<PersonId> getChildrenIds() {
-        return Collections.unmodifiableSet(childrenIds);
+        return childrenIdsView;
     }
 
     /**
@@ -57,10 +62,7 @@ public class Parent extends Person {
      */
     public void addChildId(PersonId childId) {
         requireNonNull(childId);
-        if (childrenIds.contains(childId)) {
-            return; // child already added, so ignore
-        }
-        childrenIds.add(childId);
+        childrenIds.add(childId); // ignored if the child was already added
     }
 
     /**
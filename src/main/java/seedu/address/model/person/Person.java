@@ -1,11 +1,11 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -13,6 +13,8 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The email, address and tags may be loaded lazily, see {@link #Person(PersonId, Category, Name, Phone, Supplier)}.
  */
 public class Person {
 
@@ -25,24 +27,16 @@ public class Person {
     // Identity fields
     private final Name name;
     private final Phone phone;
-    private final Email email;
 
-    // Data fields
-    private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    // Email, address and tags, loaded on first use if detailsLoader is set
+    private volatile PersonDetails details;
+    private Supplier<PersonDetails> detailsLoader;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(category, name, phone, email, address, tags);
-        this.id = PersonId.newId();
-        this.category = category;
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this(PersonId.newId(), category, name, phone, email, address, tags);
     }
 
     /**
@@ -54,9 +48,20 @@ public class Person {
         this.category = category;
         this.name = name;
         this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this.details = new PersonDetails(email, address, tags);
+    }
+
+    /**
+     * Constructs a person whose email, address and tags are produced by {@code detailsLoader} the first time any of
+     * them is needed. The loader is called at most once, from whichever thread first needs the details.
+     */
+    public Person(PersonId id, Category category, Name name, Phone phone, Supplier<PersonDetails> detailsLoader) {
+        requireAllNonNull(id, category, name, phone, detailsLoader);
+        this.id = id;
+        this.category = category;
+        this.name = name;
+        this.phone = phone;
+        this.detailsLoader = detailsLoader;
     }
 
     public PersonId getId() {
@@ -76,11 +81,11 @@ public class Person {
     }
 
     public Email getEmail() {
-        return email;
+        return getDetails().getEmail();
     }
 
     public Address getAddress() {
-        return address;
+        return getDetails().getAddress();
     }
 
     /**
@@ -88,7 +93,28 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return getDetails().getTags();
+    }
+
+    /**
+     * Returns true if the email, address and tags of this person have been loaded.
+     */
+    public boolean isDetailsLoaded() {
+        return details != null;
+    }
+
+    private PersonDetails getDetails() {
+        PersonDetails loaded = details;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (details == null) {
+                details = requireNonNull(detailsLoader.get());
+                detailsLoader = null;
+            }
+            return details;
+        }
     }
 
     /**
@@ -101,7 +127,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().toString().equalsIgnoreCase(getName().toString());
+                && otherPerson.getName().toKey().equals(getName().toKey());
     }
 
     /**
@@ -135,15 +161,15 @@ public class Person {
         return category.equals(otherPerson.category)
                 && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags);
+                && getEmail().equals(otherPerson.getEmail())
+                && getAddress().equals(otherPerson.getAddress())
+                && getTags().equals(otherPerson.getTags());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(category, name, phone, email, address, tags);
+        return Objects.hash(category, name, phone, getEmail(), getAddress(), getTags());
     }
 
     @Override
@@ -153,9 +179,9 @@ public class Person {
                 .add("category", category)
                 .add("name", name)
                 .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("tags", tags)
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("tags", getTags())
                 .toString();
     }
 
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * The fields of a {@link Person} that are not needed to list or look up the person: email, address and tags.
+ * A person can be given a loader for these instead of their values, so that they are only decoded when first used.
+ * Guarantees: details are present and not null, immutable.
+ */
+public final class PersonDetails {
+
+    private final Email email;
+    private final Address address;
+    private final Set<Tag> tags;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonDetails(Email email, Address address, Set<Tag> tags) {
+        requireAllNonNull(email, address, tags);
+        this.email = email;
+        this.address = address;
+        this.tags = TagSet.of(tags);
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<Tag> getTags() {
+        return tags;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.tag.Tag;
 
@@ -59,4 +60,29 @@ public class PersonFactory {
             throw new IllegalArgumentException("Unknown category: " + category);
         }
     }
+
+    /**
+     * Creates a Person object of the appropriate type based on the given category with a specific ID,
+     * whose email, address and tags are loaded by {@code detailsLoader} on first use.
+     *
+     * @param id the ID of the person
+     * @param category the category of the person
+     * @param name the name of the person
+     * @param phone the phone number of the person
+     * @param detailsLoader produces the email, address and tags of the person
+     * @return a Person object of the appropriate type
+     */
+    public static Person createPerson(PersonId id, Category category, Name name, Phone phone,
+                                    Supplier<PersonDetails> detailsLoader) {
+        switch (category) {
+        case STUDENT:
+            return new Student(id, category, name, phone, detailsLoader);
+        case PARENT:
+            return new Parent(id, category, name, phone, detailsLoader);
+        case TUTOR:
+            return new Tutor(id, category, name, phone, detailsLoader);
+        default:
+            throw new IllegalArgumentException("Unknown category: " + category);
+        }
+    }
 }
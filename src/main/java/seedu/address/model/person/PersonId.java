@@ -2,32 +2,152 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Immutable identifier for a {@link Person}. Wraps a UUID for each person.
+ *
+ * The UUID is held as its two 64-bit halves and only turned into a string when written to storage. Identifiers read
+ * from storage that are not canonical lowercase UUIDs are kept as strings, so that they are written back unchanged.
+ *
+ * Identifiers are interned: every {@code PersonId} with the same value that is in use is the same instance, and each
+ * is given a small, dense {@linkplain #getHandle() handle} that sets of identifiers such as {@link PersonIdSet} store
+ * instead of references. Handles are shared by every address book in the application, since entities are shared
+ * between copies of an address book. The intern table only holds identifiers weakly, so an identifier that nothing
+ * refers to any more, such as that of a deleted person, is garbage collected and its handle given to the next new
+ * identifier.
  */
 public final class PersonId {
 
-    private final String value;
+    private static final int UUID_STRING_LENGTH = 36;
+    private static final int NO_HANDLE = -1;
 
-    private PersonId(String value) {
-        this.value = value;
+    /**
+     * Maps the value of each identifier in use to a weak reference to that identifier. Each reference holds the value
+     * and is its own key, so that no second copy of the identifier is kept to look it up by.
+     */
+    private static final Map<InternKey, InternedReference> interned = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<PersonId> collected = new ReferenceQueue<>();
+    private static final NavigableSet<Integer> freeHandles = new ConcurrentSkipListSet<>();
+    private static final AtomicInteger nextHandle = new AtomicInteger();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    /** The string form of an identifier that is not a canonical UUID, or null. */
+    private final String nonUuidValue;
+    private final int hash;
+    private final int handle;
+
+    private PersonId(long mostSignificantBits, long leastSignificantBits, String nonUuidValue, int handle) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.nonUuidValue = nonUuidValue;
+        this.hash = hash(mostSignificantBits, leastSignificantBits, nonUuidValue);
+        this.handle = handle;
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits, String nonUuidValue) {
+        return nonUuidValue != null
+                ? nonUuidValue.hashCode()
+                : Long.hashCode(mostSignificantBits * 31 + leastSignificantBits);
+    }
+
+    /**
+     * Returns the interned identifier with the given value, creating it and giving it a free handle if needed.
+     */
+    private static PersonId intern(long mostSignificantBits, long leastSignificantBits, String nonUuidValue) {
+        releaseCollected();
+        InternedReference reference = interned.get(new Lookup(mostSignificantBits, leastSignificantBits, nonUuidValue));
+        PersonId existing = reference == null ? null : reference.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        PersonId id = new PersonId(mostSignificantBits, leastSignificantBits, nonUuidValue, allocateHandle());
+        InternedReference candidate = new InternedReference(id);
+        PersonId[] current = new PersonId[1];
+        interned.compute(candidate, (key, currentReference) -> {
+            current[0] = currentReference == null ? null : currentReference.get();
+            return current[0] != null ? currentReference : candidate;
+        });
+        if (current[0] != null) {
+            // Another thread interned the same value first. A cleared reference is never queued, so the handle is
+            // only freed here.
+            candidate.clear();
+            freeHandles.add(id.handle);
+            return current[0];
+        }
+        return id;
+    }
+
+    /**
+     * Returns the lowest handle that no identifier in use has.
+     */
+    private static int allocateHandle() {
+        Integer freeHandle = freeHandles.pollFirst();
+        return freeHandle != null ? freeHandle : nextHandle.getAndIncrement();
+    }
+
+    /**
+     * Forgets the identifiers that have been garbage collected and frees their handles.
+     */
+    private static void releaseCollected() {
+        Reference<? extends PersonId> reference;
+        while ((reference = collected.poll()) != null) {
+            InternedReference released = (InternedReference) reference;
+            // The entry may already map to a newer identifier with the same value
+            interned.computeIfPresent(released, (key, current) -> current == released ? null : current);
+            freeHandles.add(released.handle);
+        }
     }
 
     /**
      * Creates a new {@code PersonId} with a randomly generated UUID value.
      */
     public static PersonId newId() {
-        return new PersonId(UUID.randomUUID().toString());
+        UUID uuid = UUID.randomUUID();
+        return of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
     }
 
     /**
      * Returns the string form of this identifier.
      */
     public String getValue() {
-        return value;
+        return nonUuidValue != null ? nonUuidValue : new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    /**
+     * Returns true if this identifier is a UUID, whose bits are given by {@link #getMostSignificantBits()} and
+     * {@link #getLeastSignificantBits()}.
+     */
+    public boolean isUuid() {
+        return nonUuidValue == null;
+    }
+
+    /**
+     * Returns the handle of this identifier: a non-negative int that no other identifier in use has.
+     * Handles are given out in increasing order as identifiers are first created, except that the handles of
+     * identifiers that have been garbage collected are given out again first, lowest first.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
     }
 
     /**
@@ -36,7 +156,46 @@ public final class PersonId {
      */
     public static PersonId of(String value) {
         requireNonNull(value);
-        return new PersonId(value);
+        if (!isCanonicalUuid(value)) {
+            return intern(0, 0, value);
+        }
+        return intern(parseHex(value, 0, 8) << 32 | parseHex(value, 9, 13) << 16 | parseHex(value, 14, 18),
+                parseHex(value, 19, 23) << 48 | parseHex(value, 24, 36), null);
+    }
+
+    /**
+     * Creates a {@code PersonId} for the UUID with the given bits.
+     * For use when reconstructing an object from storage.
+     */
+    public static PersonId of(long mostSignificantBits, long leastSignificantBits) {
+        return intern(mostSignificantBits, leastSignificantBits, null);
+    }
+
+    /**
+     * Returns true if {@code value} is exactly what {@link UUID#toString()} produces for some UUID.
+     */
+    private static boolean isCanonicalUuid(String value) {
+        if (value.length() != UUID_STRING_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_STRING_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean isValid = (i == 8 || i == 13 || i == 18 || i == 23)
+                    ? c == '-'
+                    : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!isValid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = result << 4 | Character.digit(value.charAt(i), 16);
+        }
+        return result;
     }
 
     @Override
@@ -48,18 +207,131 @@ public final class PersonId {
             return false;
         }
         PersonId personId = (PersonId) o;
-        return Objects.equals(value, personId.value);
+        return hash == personId.hash
+                && mostSignificantBits == personId.mostSignificantBits
+                && leastSignificantBits == personId.leastSignificantBits
+                && Objects.equals(nonUuidValue, personId.nonUuidValue);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
-}
 
+    /**
+     * The value of an identifier, by which the intern table finds it. Keys with the same value are equal whatever
+     * their class.
+     */
+    private interface InternKey {
+        long getMostSignificantBits();
+
+        long getLeastSignificantBits();
 
+        String getNonUuidValue();
+
+        static boolean isSameValue(InternKey key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof InternKey)) {
+                return false;
+            }
+            InternKey otherKey = (InternKey) other;
+            return key.hashCode() == otherKey.hashCode()
+                    && key.getMostSignificantBits() == otherKey.getMostSignificantBits()
+                    && key.getLeastSignificantBits() == otherKey.getLeastSignificantBits()
+                    && Objects.equals(key.getNonUuidValue(), otherKey.getNonUuidValue());
+        }
+    }
+
+    /**
+     * A value to look up in the intern table.
+     */
+    private static final class Lookup implements InternKey {
+        private final long mostSignificantBits;
+        private final long leastSignificantBits;
+        private final String nonUuidValue;
+
+        Lookup(long mostSignificantBits, long leastSignificantBits, String nonUuidValue) {
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+            this.nonUuidValue = nonUuidValue;
+        }
+
+        @Override
+        public long getMostSignificantBits() {
+            return mostSignificantBits;
+        }
+
+        @Override
+        public long getLeastSignificantBits() {
+            return leastSignificantBits;
+        }
+
+        @Override
+        public String getNonUuidValue() {
+            return nonUuidValue;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return InternKey.isSameValue(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash(mostSignificantBits, leastSignificantBits, nonUuidValue);
+        }
+    }
+
+    /**
+     * A weak reference from the intern table to an identifier. It keeps the identifier's value, so that it can be the
+     * identifier's key in the table, and the handle to free once the identifier has been garbage collected.
+     */
+    private static final class InternedReference extends WeakReference<PersonId> implements InternKey {
+        private final long mostSignificantBits;
+        private final long leastSignificantBits;
+        private final String nonUuidValue;
+        private final int hash;
+        private final int handle;
+
+        InternedReference(PersonId id) {
+            super(id, collected);
+            this.mostSignificantBits = id.mostSignificantBits;
+            this.leastSignificantBits = id.leastSignificantBits;
+            this.nonUuidValue = id.nonUuidValue;
+            this.hash = id.hash;
+            this.handle = id.handle;
+        }
+
+        @Override
+        public long getMostSignificantBits() {
+            return mostSignificantBits;
+        }
+
+        @Override
+        public long getLeastSignificantBits() {
+            return leastSignificantBits;
+        }
+
+        @Override
+        public String getNonUuidValue() {
+            return nonUuidValue;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return InternKey.isSameValue(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of {@link PersonId}s kept as a sorted array of their {@linkplain PersonId#getHandle() handles}, with the
+ * identifiers alongside in the same order.
+ *
+ * Lookups are a binary search over primitive ints, and {@link #get(int)} allows iterating without allocating an
+ * iterator. Iteration is in handle order. That is not the order in which the identifiers were created, as the handles
+ * of garbage collected identifiers are given out again. Identifiers created one after another do get increasing
+ * handles, as free handles are given out lowest first and before any new one, so adding identifiers as they are
+ * created, as loading an address book does, usually appends without shifting.
+ *
+ * {@link #asUnmodifiable()} gives a read-only view of a set, which sees later changes to it without copying it.
+ */
+public final class PersonIdSet extends AbstractSet<PersonId> {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final PersonIdSet EMPTY = new PersonIdSet(null);
+
+    // The set whose contents this one shows: itself, unless this is a read-only view of another set
+    private final PersonIdSet source;
+    private final boolean isModifiable;
+    private PersonIdSet unmodifiableView;
+    private int[] handles;
+    private PersonId[] ids;
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public PersonIdSet() {
+        source = this;
+        isModifiable = true;
+        handles = new int[0];
+        ids = new PersonId[0];
+    }
+
+    /**
+     * Creates a set that cannot be modified, showing the contents of {@code source}, or empty if it is null.
+     */
+    private PersonIdSet(PersonIdSet source) {
+        this.source = source == null ? this : source;
+        isModifiable = false;
+        handles = new int[0];
+        ids = new PersonId[0];
+    }
+
+    /**
+     * Creates a set containing the given identifiers.
+     */
+    public PersonIdSet(Collection<PersonId> ids) {
+        this();
+        addAll(ids);
+    }
+
+    /**
+     * Returns an empty set that cannot be modified, shared by all callers.
+     */
+    public static PersonIdSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a view of this set that cannot be modified, and that shows any later changes to this set.
+     */
+    public PersonIdSet asUnmodifiable() {
+        if (!isModifiable) {
+            return this;
+        }
+        if (unmodifiableView == null) {
+            unmodifiableView = new PersonIdSet(this);
+        }
+        return unmodifiableView;
+    }
+
+    @Override
+    public int size() {
+        return source.size;
+    }
+
+    /**
+     * Returns the identifier at {@code index} in handle order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not between 0 and {@code size() - 1}.
+     */
+    public PersonId get(int index) {
+        if (index < 0 || index >= source.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return source.ids[index];
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof PersonId && source.indexOf(((PersonId) o).getHandle()) >= 0;
+    }
+
+    @Override
+    public boolean add(PersonId id) {
+        requireNonNull(id);
+        requireModifiable();
+        int handle = id.getHandle();
+        int insertAt;
+        if (size == 0 || handles[size - 1] < handle) {
+            insertAt = size;
+        } else {
+            int index = indexOf(handle);
+            if (index >= 0) {
+                return false;
+            }
+            insertAt = -index - 1;
+        }
+
+        if (size == handles.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            handles = Arrays.copyOf(handles, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        System.arraycopy(handles, insertAt, handles, insertAt + 1, size - insertAt);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        handles[insertAt] = handle;
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        requireModifiable();
+        if (!(o instanceof PersonId)) {
+            return false;
+        }
+        int index = indexOf(((PersonId) o).getHandle());
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        requireModifiable();
+        Arrays.fill(ids, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<PersonId> iterator() {
+        return new Iterator<>() {
+            private int next;
+            private boolean canRemove;
+
+            @Override
+            public boolean hasNext() {
+                return next < source.size;
+            }
+
+            @Override
+            public PersonId next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                canRemove = true;
+                return source.ids[next++];
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                canRemove = false;
+                removeAt(--next);
+            }
+        };
+    }
+
+    private void requireModifiable() {
+        if (!isModifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int indexOf(int handle) {
+        return Arrays.binarySearch(handles, 0, size, handle);
+    }
+
+    private void removeAt(int index) {
+        requireModifiable();
+        System.arraycopy(handles, index + 1, handles, index, size - index - 1);
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        ids[size] = null;
+    }
+}
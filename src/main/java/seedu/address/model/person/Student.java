@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tuitionclass.ClassId;
@@ -48,6 +49,15 @@ public class Student extends Person {
         this.classId = classId;
     }
 
+    /**
+     * Constructs a {@code Student} with a given ID whose details are loaded on first use.
+     */
+    public Student(PersonId id, Category category, Name name, Phone phone, Supplier<PersonDetails> detailsLoader) {
+        super(id, category, name, phone, detailsLoader);
+        this.linkedParentId = null;
+        this.classId = null;
+    }
+
     @Override
     public PersonId getParentId() {
         return linkedParentId;
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * An inverted index from each tag to the persons that have it, for {@link UniquePersonList}.
+ *
+ * Each person in the index is numbered by a slot of its own, so each tag maps to a bitmap of slots that does not shift
+ * as persons are removed, and {@link TagQuery}s are answered with bitwise operations on those bitmaps. The slot of a
+ * removed person is given to the next person added, so the bitmaps stay as small as the most persons indexed at once,
+ * and an index built afresh when the list is replaced numbers its persons from zero again.
+ */
+class TagIndex {
+
+    private static final BitSet NO_PERSONS = new BitSet();
+
+    private final Map<Tag, BitSet> personsByTag = new HashMap<>();
+    private final BitSet allPersons = new BitSet();
+    private final Map<PersonId, Integer> slots = new HashMap<>();
+    private final List<PersonId> personsBySlot = new ArrayList<>();
+
+    /**
+     * Adds {@code person} and their tags to the index.
+     */
+    void add(Person person) {
+        int slot = allPersons.nextClearBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person.getId());
+        } else {
+            personsBySlot.set(slot, person.getId());
+        }
+        slots.put(person.getId(), slot);
+        allPersons.set(slot);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, k -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Removes {@code person} and their tags from the index, freeing their slot.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person.getId());
+        if (slot == null) {
+            return;
+        }
+        allPersons.clear(slot);
+        personsBySlot.set(slot, null);
+        for (Tag tag : person.getTags()) {
+            BitSet persons = personsByTag.get(tag);
+            if (persons == null) {
+                continue;
+            }
+            persons.clear(slot);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the persons matching {@code query}.
+     */
+    PersonIdSet find(TagQuery query) {
+        requireNonNull(query);
+        BitSet matches = query.evaluate(tag -> personsByTag.getOrDefault(tag, NO_PERSONS), allPersons);
+        List<PersonId> ids = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            ids.add(personsBySlot.get(slot));
+        }
+        // In handle order, so that each id is appended to the set
+        ids.sort(Comparator.comparingInt(PersonId::getHandle));
+        return new PersonIdSet(ids);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.tag.Tag;
 
@@ -16,4 +17,8 @@ public class Tutor extends Person {
     public Tutor(PersonId id, Category category, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         super(id, category, name, phone, email, address, tags);
     }
+
+    public Tutor(PersonId id, Category category, Name name, Phone phone, Supplier<PersonDetails> detailsLoader) {
+        super(id, category, name, phone, detailsLoader);
+    }
 }
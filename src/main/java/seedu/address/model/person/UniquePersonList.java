@@ -3,13 +3,28 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,33 +34,66 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Persons are also indexed by their {@code PersonId}, by their name key (see {@link Name#toKey()}) and by the words
+ * of their name (see {@link NameTokenIndex}). These indexes are kept in step with every operation that modifies the
+ * list, so that id lookups, name lookups, keyword searches and duplicate checks do not need to scan the list. Name
+ * keys are kept in sorted order, so the names starting with a given prefix are a contiguous range of the name index.
+ * A {@link NameTrigramIndex} narrows the search for names close to a misspelt one to a few candidates, and a
+ * {@link ContactIndex} finds persons by phone number.
+ *
+ * Each person also has an order key, which increases along the list, so that the persons with a set of ids can be put
+ * in list order, and the position of a person in the list found, without scanning the list. Persons are only ever
+ * appended, replaced in place or removed, so a person added is given the next key and a replacement takes the key of
+ * the person it replaces. Keys are assigned before the list changes, and the keys of persons removed are only dropped
+ * after it has changed, so listeners to the list can order both the persons it adds and those it removes.
+ *
+ * A {@link TagIndex} from each tag to the persons with it answers {@link TagQuery}s, and a {@code ContactIndex} of
+ * lowercase email addresses finds persons by email. These are only built when first used, since reading every
+ * person's tags or email up front would undo lazily loaded person details, and are then kept in step like the other
+ * indexes until the list is replaced.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** The most edits by which a name found by {@link #findSimilarNames} may differ from the one looked up. */
+    public static final int MAX_EDIT_DISTANCE = 3;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final NavigableMap<String, List<Person>> nameIndex = new TreeMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final ContactIndex phoneIndex = new ContactIndex(person -> person.getPhone().value);
+    private final Map<PersonId, Long> orderKeys = new HashMap<>();
+    private final Comparator<Person> listOrder = Comparator.comparingLong(person -> orderKeys.get(person.getId()));
+    private long nextOrderKey;
+    private TagIndex tagIndex;
+    private ContactIndex emailIndex;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.getOrDefault(toCheck.getName().toKey(), List.of()).stream()
+                .anyMatch(toCheck::isSamePerson);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and no person in the list may have its id.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || idIndex.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
+        orderKeys.put(toAdd.getId(), nextOrderKey++);
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -56,7 +104,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -64,8 +112,19 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        // target may only be equal to the person it finds, which can have another id
+        Person withEditedId = idIndex.get(editedPerson.getId());
+        if (withEditedId != null && withEditedId != internalList.get(index)) {
+            throw new DuplicatePersonException();
+        }
 
-        internalList.set(index, editedPerson);
+        orderKeys.put(editedPerson.getId(), orderKeys.get(internalList.get(index).getId()));
+        Person replacedPerson = internalList.set(index, editedPerson);
+        if (!replacedPerson.getId().equals(editedPerson.getId())) {
+            orderKeys.remove(replacedPerson.getId());
+        }
+        unindex(replacedPerson);
+        index(editedPerson);
     }
 
     /**
@@ -74,14 +133,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removedPerson = internalList.remove(index);
+        orderKeys.remove(removedPerson.getId());
+        unindex(removedPerson);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -94,7 +158,143 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceContents(persons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if any, without scanning the list.
+     */
+    public Optional<Person> findById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the persons with the given {@code ids} who are in the list, in list order, without scanning the list.
+     */
+    public List<Person> findByIds(Collection<PersonId> ids) {
+        requireAllNonNull(ids);
+        List<Person> found = new ArrayList<>(ids.size());
+        for (PersonId id : ids) {
+            Person person = idIndex.get(id);
+            if (person != null) {
+                found.add(person);
+            }
+        }
+        found.sort(listOrder);
+        return found;
+    }
+
+    /**
+     * Returns a comparator that orders the persons in the list as the list does.
+     * It may only be given persons in the list.
+     */
+    public Comparator<Person> listOrder() {
+        return listOrder;
+    }
+
+    /**
+     * Returns the persons whose name matches {@code name} case-insensitively. Names are unique in the list, so there
+     * is at most one.
+     */
+    public List<Person> findByName(Name name) {
+        requireNonNull(name);
+        return List.copyOf(nameIndex.getOrDefault(name.toKey(), List.of()));
+    }
+
+    /**
+     * Returns up to {@code limit} names that start with {@code prefix}, ignoring case and repeated whitespace, in
+     * alphabetical order. Only the matching range of the name index is visited.
+     */
+    public List<Name> findNamesByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = prefix.stripLeading().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        List<Name> names = new ArrayList<>();
+        for (List<Person> named : nameIndex.tailMap(key, true).values()) {
+            Name name = named.get(0).getName();
+            if (names.size() >= limit || !name.toKey().startsWith(key)) {
+                break;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * Returns up to {@code limit} names of persons matching {@code predicate} that are within a few edits of
+     * {@code name}, ignoring case, closest first. Longer names are allowed more edits, up to
+     * {@value #MAX_EDIT_DISTANCE}.
+     */
+    public List<Name> findSimilarNames(Name name, Predicate<Person> predicate, int limit) {
+        requireAllNonNull(name, predicate);
+        String key = name.toKey();
+        int maxDistance = Math.max(1, Math.min(MAX_EDIT_DISTANCE, key.length() / 4));
+
+        Map<Name, Integer> distances = new HashMap<>();
+        for (PersonId id : nameTrigramIndex.findCandidates(key, maxDistance)) {
+            Person person = idIndex.get(id);
+            int distance = StringUtil.editDistance(key, person.getName().toKey(), maxDistance);
+            if (distance <= maxDistance && predicate.test(person)) {
+                distances.put(person.getName(), distance);
+            }
+        }
+        return distances.keySet().stream()
+                .sorted(Comparator.<Name>comparingInt(distances::get).thenComparing(Name::toKey))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns the ids of the persons whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public PersonIdSet findByNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameTokenIndex.find(keywords);
+    }
+
+    /**
+     * Returns the ids of the persons whose tags match {@code query}.
+     */
+    public PersonIdSet findByTags(TagQuery query) {
+        requireNonNull(query);
+        if (tagIndex == null) {
+            tagIndex = new TagIndex();
+            for (Person person : internalList) {
+                tagIndex.add(person);
+            }
+        }
+        return tagIndex.find(query);
+    }
+
+    /**
+     * Returns the ids of the persons with the phone number {@code phone}.
+     */
+    public PersonIdSet findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.find(phone.value);
+    }
+
+    /**
+     * Returns the ids of the persons with the email address {@code email}, ignoring case.
+     */
+    public PersonIdSet findByEmail(Email email) {
+        requireNonNull(email);
+        return getEmailIndex().find(email.toKey());
+    }
+
+    /**
+     * Returns each phone number that more than one person has, with the ids of those persons.
+     */
+    public Map<String, Set<PersonId>> findSharedPhones() {
+        return phoneIndex.findShared();
+    }
+
+    /**
+     * Returns each lowercase email address that more than one person has, with the ids of those persons.
+     */
+    public Map<String, Set<PersonId>> findSharedEmails() {
+        return getEmailIndex().findShared();
     }
 
     /**
@@ -134,15 +334,106 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private ContactIndex getEmailIndex() {
+        if (emailIndex == null) {
+            emailIndex = new ContactIndex(person -> person.getEmail().toKey());
+            for (Person person : internalList) {
+                emailIndex.add(person);
+            }
+        }
+        return emailIndex;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none, without
+     * scanning the list. The person is looked up by id, or by name if the person with that id is not equal to it.
+     */
+    private int indexOf(Person person) {
+        Person found = idIndex.get(person.getId());
+        if (found != person && (found == null || !found.equals(person))) {
+            found = nameIndex.getOrDefault(person.getName().toKey(), List.of()).stream()
+                    .filter(person::equals)
+                    .findFirst()
+                    .orElse(null);
+        }
+        return found == null ? -1 : Collections.binarySearch(internalList, found, listOrder);
+    }
+
+    /**
+     * Replaces the contents of the backing list with {@code persons}, giving them order keys in their order.
+     */
+    private void replaceContents(List<Person> persons) {
+        Map<PersonId, Long> newOrderKeys = new HashMap<>();
+        for (Person person : persons) {
+            newOrderKeys.put(person.getId(), nextOrderKey++);
+        }
+        orderKeys.putAll(newOrderKeys);
+        internalList.setAll(persons);
+        orderKeys.keySet().retainAll(newOrderKeys.keySet());
+    }
+
+    /**
+     * Rebuilds the id, name and phone indexes from the contents of the backing list, and drops the tag and email
+     * indexes until they are next needed.
+     */
+    private void rebuildIndexes() {
+        idIndex.clear();
+        nameIndex.clear();
+        nameTokenIndex.clear();
+        nameTrigramIndex.clear();
+        phoneIndex.clear();
+        tagIndex = null;
+        emailIndex = null;
+        for (Person person : internalList) {
+            index(person);
+        }
+    }
+
+    private void index(Person person) {
+        idIndex.put(person.getId(), person);
+        nameIndex.computeIfAbsent(person.getName().toKey(), k -> new ArrayList<>()).add(person);
+        nameTokenIndex.add(person);
+        nameTrigramIndex.add(person);
+        phoneIndex.add(person);
+        if (tagIndex != null) {
+            tagIndex.add(person);
+        }
+        if (emailIndex != null) {
+            emailIndex.add(person);
+        }
+    }
+
+    private void unindex(Person person) {
+        idIndex.remove(person.getId());
+        nameTokenIndex.remove(person);
+        nameTrigramIndex.remove(person);
+        phoneIndex.remove(person);
+        if (tagIndex != null) {
+            tagIndex.remove(person);
+        }
+        if (emailIndex != null) {
+            emailIndex.remove(person);
+        }
+        String key = person.getName().toKey();
+        List<Person> named = nameIndex.get(key);
+        if (named == null) {
+            return;
+        }
+        named.removeIf(p -> p == person);
+        if (named.isEmpty()) {
+            nameIndex.remove(key);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if {@code persons} contains only unique persons, with no two sharing an id.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenKeys = new HashSet<>();
+        Set<PersonId> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenKeys.add(person.getName().toKey()) || !seenIds.add(person.getId())) {
+                return false;
             }
         }
         return true;
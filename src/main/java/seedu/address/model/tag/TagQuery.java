@@ -0,0 +1,202 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A boolean expression over tags, such as {@code math AND sec3 AND NOT inactive}, that selects the persons whose tags
+ * satisfy it.
+ *
+ * Queries are evaluated as set algebra over bitmaps: each tag is given as the set of persons that have it, and
+ * {@code AND}, {@code OR} and {@code AND NOT} become bitwise and, or and and-not.
+ */
+public abstract class TagQuery {
+
+    private TagQuery() {}
+
+    /**
+     * Returns a query matching persons that have {@code tag}.
+     */
+    public static TagQuery has(Tag tag) {
+        return new Has(tag);
+    }
+
+    /**
+     * Returns a query matching persons that match both {@code left} and {@code right}.
+     */
+    public static TagQuery and(TagQuery left, TagQuery right) {
+        return new And(left, right);
+    }
+
+    /**
+     * Returns a query matching persons that match {@code left}, {@code right} or both.
+     */
+    public static TagQuery or(TagQuery left, TagQuery right) {
+        return new Or(left, right);
+    }
+
+    /**
+     * Returns a query matching persons that do not match {@code query}.
+     */
+    public static TagQuery not(TagQuery query) {
+        return new Not(query);
+    }
+
+    /**
+     * Returns the persons matching this query.
+     *
+     * @param personsWithTag returns the persons that have the given tag. The returned bitmap is not modified.
+     * @param allPersons every person that the query ranges over, for negation. It is not modified.
+     * @return a new bitmap, using the same numbering of persons as {@code personsWithTag} and {@code allPersons}.
+     */
+    public abstract BitSet evaluate(Function<Tag, BitSet> personsWithTag, BitSet allPersons);
+
+    private static final class Has extends TagQuery {
+        private final Tag tag;
+
+        Has(Tag tag) {
+            requireNonNull(tag);
+            this.tag = tag;
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> personsWithTag, BitSet allPersons) {
+            return (BitSet) personsWithTag.apply(tag).clone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Has && tag.equals(((Has) other).tag));
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return tag.tagName;
+        }
+    }
+
+    private static final class And extends TagQuery {
+        private final TagQuery left;
+        private final TagQuery right;
+
+        And(TagQuery left, TagQuery right) {
+            requireAllNonNull(left, right);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet result = left.evaluate(personsWithTag, allPersons);
+            if (right instanceof Not) {
+                // a AND NOT b is a single and-not, without first complementing b
+                result.andNot(((Not) right).query.evaluate(personsWithTag, allPersons));
+            } else {
+                result.and(right.evaluate(personsWithTag, allPersons));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof And)) {
+                return false;
+            }
+            And otherAnd = (And) other;
+            return left.equals(otherAnd.left) && right.equals(otherAnd.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    private static final class Or extends TagQuery {
+        private final TagQuery left;
+        private final TagQuery right;
+
+        Or(TagQuery left, TagQuery right) {
+            requireAllNonNull(left, right);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet result = left.evaluate(personsWithTag, allPersons);
+            result.or(right.evaluate(personsWithTag, allPersons));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Or)) {
+                return false;
+            }
+            Or otherOr = (Or) other;
+            return left.equals(otherOr.left) && right.equals(otherOr.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    private static final class Not extends TagQuery {
+        private final TagQuery query;
+
+        Not(TagQuery query) {
+            requireNonNull(query);
+            this.query = query;
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> personsWithTag, BitSet allPersons) {
+            BitSet result = (BitSet) allPersons.clone();
+            result.andNot(query.evaluate(personsWithTag, allPersons));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && query.equals(((Not) other).query));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", query);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + query;
+        }
+    }
+}
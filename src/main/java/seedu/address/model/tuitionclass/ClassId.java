@@ -2,14 +2,14 @@ package seedu.address.model.tuitionclass;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 /**
  * Represents the unique identifier of a Tuition Class.
  * A ClassId is defined by its Day and Time. This is an immutable value object.
  */
 public final class ClassId {
 
+    private static final int TIMES = Time.values().length;
+
     private final Day day;
     private final Time time;
 
@@ -47,7 +47,8 @@ public final class ClassId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(day, time);
+        // Dense and collision-free, since both components are small enums
+        return day.ordinal() * TIMES + time.ordinal();
     }
 
     @Override
@@ -0,0 +1,111 @@
+package seedu.address.model.tuitionclass;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassException;
+
+/**
+ * A dense weekly timetable of tuition classes, with one cell per {@link Day} x {@link Time} slot.
+ * Cells are addressed by enum ordinal, so looking up the class in a slot is an array dereference.
+ *
+ * Each slot holds up to {@code roomsPerSlot} classes. The default of one room matches the current notion of class
+ * identity, where a {@link ClassId} is just a day and a time.
+ */
+public class TimetableGrid {
+
+    public static final int DEFAULT_ROOMS_PER_SLOT = 1;
+
+    private static final int DAYS = Day.values().length;
+    private static final int TIMES = Time.values().length;
+
+    private final TuitionClass[][][] slots;
+    private final int roomsPerSlot;
+
+    /**
+     * Creates an empty grid with {@link #DEFAULT_ROOMS_PER_SLOT} rooms per slot.
+     */
+    public TimetableGrid() {
+        this(DEFAULT_ROOMS_PER_SLOT);
+    }
+
+    /**
+     * Creates an empty grid with {@code roomsPerSlot} rooms per slot.
+     */
+    public TimetableGrid(int roomsPerSlot) {
+        checkArgument(roomsPerSlot > 0, "Rooms per slot must be positive");
+        this.roomsPerSlot = roomsPerSlot;
+        this.slots = new TuitionClass[DAYS][TIMES][roomsPerSlot];
+    }
+
+    /**
+     * Returns the class with the given {@code classId}, if any.
+     */
+    public Optional<TuitionClass> get(ClassId classId) {
+        requireNonNull(classId);
+        for (TuitionClass tuitionClass : slotOf(classId.getDay(), classId.getTime())) {
+            if (tuitionClass != null && tuitionClass.getClassId().equals(classId)) {
+                return Optional.of(tuitionClass);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Places {@code tuitionClass} in the first free room of its slot.
+     *
+     * @throws DuplicateTuitionClassException if every room in the slot is already taken.
+     */
+    public void put(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        TuitionClass[] slot = slotOf(tuitionClass.getDay(), tuitionClass.getTime());
+        int room = freeRoom(slot);
+        if (room == -1) {
+            throw new DuplicateTuitionClassException();
+        }
+        slot[room] = tuitionClass;
+    }
+
+    /**
+     * Removes {@code tuitionClass} from the grid, if present.
+     */
+    public void remove(TuitionClass tuitionClass) {
+        requireNonNull(tuitionClass);
+        TuitionClass[] slot = slotOf(tuitionClass.getDay(), tuitionClass.getTime());
+        for (int room = 0; room < roomsPerSlot; room++) {
+            if (slot[room] == tuitionClass) {
+                slot[room] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Empties every slot of the grid.
+     */
+    public void clear() {
+        for (TuitionClass[][] day : slots) {
+            for (TuitionClass[] slot : day) {
+                Arrays.fill(slot, null);
+            }
+        }
+    }
+
+    private TuitionClass[] slotOf(Day day, Time time) {
+        requireNonNull(day);
+        requireNonNull(time);
+        return slots[day.ordinal()][time.ordinal()];
+    }
+
+    private int freeRoom(TuitionClass[] slot) {
+        for (int room = 0; room < roomsPerSlot; room++) {
+            if (slot[room] == null) {
+                return room;
+            }
+        }
+        return -1;
+    }
+}
@@ -4,10 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
 
 /**
  * Represents a Tuition Class in the address book.
@@ -17,8 +17,8 @@ public class TuitionClass {
 
     private final ClassId classId;
     private PersonId tutorId;
-    private final Set<PersonId> studentIds = new HashSet<>();
-
+    private final PersonIdSet studentIds = new PersonIdSet();
+    private final Set<PersonId> studentIdsView = Collections.unmodifiableSet(studentIds);
 
     /**
      * Creates a new {@code TuitionClass} scheduled on the given day and time,
@@ -68,7 +68,15 @@ public class TuitionClass {
     }
 
     public Set<PersonId> getStudentIds() {
-        return Collections.unmodifiableSet(studentIds);
+        return studentIdsView;
+    }
+
+    /**
+     * Returns true if the student with the given id is enrolled in this class.
+     */
+    public boolean hasStudentId(PersonId studentId) {
+        requireNonNull(studentId);
+        return studentIds.contains(studentId);
     }
 
     public void addStudentId(PersonId studentId) {
@@ -3,8 +3,11 @@ package seedu.address.model.tuitionclass;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,12 +16,15 @@ import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassExceptio
 /**
  * A list of tuition classes that enforces uniqueness between its elements.
  * A class is considered unique by its timeslot (day and time).
+ * Classes are stored in a {@link TimetableGrid} indexed by day and time, which answers lookups and duplicate
+ * checks; the observable list is kept alongside it as the view of the classes in insertion order.
  */
 public class UniqueClassList implements Iterable<TuitionClass> {
 
     private final ObservableList<TuitionClass> internalList = FXCollections.observableArrayList();
     private final ObservableList<TuitionClass> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final TimetableGrid grid = new TimetableGrid();
 
     /**
      * Returns true if the list contains an equivalent tuition class as the given argument.
@@ -28,7 +34,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
      */
     public boolean contains(TuitionClass toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return grid.get(toCheck.getClassId()).isPresent();
     }
 
     /**
@@ -43,6 +49,7 @@ public class UniqueClassList implements Iterable<TuitionClass> {
         if (contains(toAdd)) {
             throw new DuplicateTuitionClassException();
         }
+        grid.put(toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,13 +72,14 @@ public class UniqueClassList implements Iterable<TuitionClass> {
         }
 
         // Check if the edited tuition class would create a duplicate (excluding the target itself)
-        for (int i = 0; i < internalList.size(); i++) {
-            if (i != index && internalList.get(i).equals(editedTuitionClass)) {
-                throw new DuplicateTuitionClassException();
-            }
+        TuitionClass existing = grid.get(editedTuitionClass.getClassId()).orElse(null);
+        if (existing != null && existing != internalList.get(index)) {
+            throw new DuplicateTuitionClassException();
         }
 
-        internalList.set(index, editedTuitionClass);
+        TuitionClass replaced = internalList.set(index, editedTuitionClass);
+        grid.remove(replaced);
+        grid.put(editedTuitionClass);
     }
 
     /**
@@ -87,6 +95,18 @@ public class UniqueClassList implements Iterable<TuitionClass> {
             throw new DuplicateTuitionClassException();
         }
         internalList.setAll(tuitionClasses);
+        grid.clear();
+        for (TuitionClass tuitionClass : internalList) {
+            grid.put(tuitionClass);
+        }
+    }
+
+    /**
+     * Returns the tuition class with the given {@code classId}, if any.
+     */
+    public Optional<TuitionClass> find(ClassId classId) {
+        requireNonNull(classId);
+        return grid.get(classId);
     }
 
     /**
@@ -116,11 +136,10 @@ public class UniqueClassList implements Iterable<TuitionClass> {
     }
 
     private boolean tuitionClassesAreUnique(List<TuitionClass> tuitionClasses) {
-        for (int i = 0; i < tuitionClasses.size() - 1; i++) {
-            for (int j = i + 1; j < tuitionClasses.size(); j++) {
-                if (tuitionClasses.get(i).equals(tuitionClasses.get(j))) {
-                    return false;
-                }
+        Set<ClassId> seen = new HashSet<>();
+        for (TuitionClass tuitionClass : tuitionClasses) {
+            if (!seen.add(tuitionClass.getClassId())) {
+                return false;
             }
         }
         return true;
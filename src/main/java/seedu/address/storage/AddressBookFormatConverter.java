@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@link AddressBookStorage} for each {@link AddressBookFormat} and converts data files between them.
+ *
+ * Conversion goes through the model: the file is fully read in its current format and written again in the new one.
+ * Every format stores all of the model's data, so converting back and forth loses nothing.
+ */
+public class AddressBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Returns the storage that keeps the address book at {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        case JSON:
+            return new JournaledAddressBookStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown address book format: " + format);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, or {@code Optional.empty()} if there is no such file.
+     * Any file that does not start with the magic number of one of the binary formats is taken to be JSON.
+     */
+    public static Optional<AddressBookFormat> detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            switch (new DataInputStream(in).readInt()) {
+            case BinaryAddressBookCodec.MAGIC:
+                return Optional.of(AddressBookFormat.BINARY);
+            case MappedAddressBookCodec.MAGIC:
+                return Optional.of(AddressBookFormat.MAPPED);
+            default:
+                return Optional.of(AddressBookFormat.JSON);
+            }
+        } catch (EOFException e) {
+            return Optional.of(AddressBookFormat.JSON);
+        }
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} in {@code targetFormat} if it is currently in another format.
+     * Does nothing if there is no such file. The journal files kept alongside a JSON data file are deleted once it is
+     * no longer JSON.
+     *
+     * @throws DataLoadingException if the file could not be read in its current format.
+     * @throws IOException if the file could not be written in the new format.
+     */
+    public static void convert(Path filePath, AddressBookFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(targetFormat);
+
+        Optional<AddressBookFormat> currentFormat = detectFormat(filePath);
+        if (currentFormat.isEmpty() || currentFormat.get() == targetFormat) {
+            return;
+        }
+
+        logger.info("Converting " + filePath + " from " + currentFormat.get() + " to " + targetFormat);
+        // A mapped source is loaded into memory instead, as some platforms refuse to replace a file still mapped
+        AddressBookStorage source = currentFormat.get() == AddressBookFormat.MAPPED
+                ? new MappedAddressBookStorage(filePath, false)
+                : createStorage(currentFormat.get(), filePath);
+        try {
+            convert(source, createStorage(targetFormat, filePath));
+        } finally {
+            source.close();
+        }
+        if (currentFormat.get() == AddressBookFormat.JSON) {
+            JournaledAddressBookStorage.deleteJournals(filePath);
+        }
+    }
+
+    /**
+     * Copies the address book in {@code source}, if there is one, into {@code target}.
+     *
+     * @throws DataLoadingException if {@code source} could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isPresent()) {
+            target.saveAddressBook(addressBook.get());
+        }
+    }
+}
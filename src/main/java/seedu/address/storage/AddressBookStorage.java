@@ -42,4 +42,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the current contents of the given {@link ReadOnlyAddressBook} and returns a save that writes them to
+     * {@link #getAddressBookFilePath()} when run. The address book may change freely after this returns.
+     * Storages that cannot capture the contents save them straight away and return a save that writes nothing.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook);
+        return PendingSave.nothing();
+    }
+
+    /**
+     * Waits for any work this storage is doing on the file in the background to finish, and stops its background
+     * threads. Must only be called once every save has been written; the storage must not be used afterwards.
+     */
+    default void close() {}
+
 }
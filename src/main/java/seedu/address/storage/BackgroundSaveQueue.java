@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Runs {@link PendingSave}s in order on a single background thread.
+ *
+ * Saves submitted while the thread is busy are written together once it is free. A full rewrite in such a batch
+ * drops the saves queued before it, so a burst of changes costs one write of the latest contents.
+ *
+ * Incremental saves build on the saves before them, so once a save fails only a full rewrite that succeeds makes up
+ * for it; until then {@link #flush()} keeps reporting the failure.
+ */
+class BackgroundSaveQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaveQueue.class);
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<PendingSave> pending = new ArrayList<>();
+    private boolean isDrainScheduled;
+
+    private volatile Consumer<IOException> failureHandler = e -> {};
+    private volatile IOException lastFailure;
+
+    /**
+     * Sets the handler told, on the background thread, about each save that fails.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues {@code save} to be written after every save submitted before it.
+     */
+    synchronized void submit(PendingSave save) {
+        requireNonNull(save);
+        if (save.isFullRewrite()) {
+            pending.clear();
+        }
+        pending.add(save);
+        if (!isDrainScheduled) {
+            isDrainScheduled = true;
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Blocks until every save submitted so far has been written.
+     */
+    void awaitIdle() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Blocks until every save submitted so far has been written.
+     *
+     * @throws IOException if a save failed and no full rewrite has succeeded since.
+     */
+    void flush() throws IOException {
+        awaitIdle();
+        IOException failure = lastFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void drain() {
+        List<PendingSave> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            isDrainScheduled = false;
+        }
+
+        logger.fine("Writing " + batch.size() + " pending save(s) of the address book");
+        for (PendingSave save : batch) {
+            try {
+                save.write();
+                if (save.isFullRewrite()) {
+                    lastFailure = null;
+                }
+            } catch (IOException e) {
+                lastFailure = e;
+                logger.warning("Background save of the address book failed: " + e);
+                failureHandler.accept(e);
+            }
+        }
+    }
+}
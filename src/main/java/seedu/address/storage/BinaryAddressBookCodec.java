@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Encodes an address book in the compact binary format used by {@link BinaryAddressBookStorage}.
+ *
+ * <pre>
+ * file       := MAGIC:int  VERSION:int  tagTable  persons  classes
+ * tagTable   := count:int  string*
+ * persons    := count:int  person*
+ * person     := id  category:byte  name:string  phone:string  email:string  address:string
+ *               tagCount:int  tagIndex:int*  [student | parent]
+ * student    := hasParent:bool  [id]  hasClass:bool  [day:byte  time:byte]
+ * parent     := count:int  id*
+ * classes    := count:int  class*
+ * class      := day:byte  time:byte  hasTutor:bool  [id]  count:int  id*
+ * id         := ID_UUID  mostSignificantBits:long  leastSignificantBits:long  |  ID_STRING  string
+ * string     := length:int  utf8Bytes
+ * </pre>
+ *
+ * Enums are stored by ordinal, so reordering the constants of {@link Category}, {@link Day} or {@link Time} requires
+ * a new {@link #VERSION}.
+ */
+final class BinaryAddressBookCodec {
+
+    /** The bytes "TPAB", which start every binary address book file. */
+    static final int MAGIC = 0x54504142;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "File is not a binary address book.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    static final String MESSAGE_CORRUPT = "Binary address book is corrupt.";
+
+    /** Longer strings are taken as a sign of corruption rather than allocated. */
+    static final int MAX_STRING_BYTES = 1 << 20;
+
+    private static final byte ID_UUID = 0;
+    private static final byte ID_STRING = 1;
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutput out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        Map<String, Integer> tagIndexes = indexTags(addressBook);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeTagTable(out, tagIndexes);
+
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(out, person, tagIndexes);
+        }
+
+        out.writeInt(addressBook.getTuitionClassList().size());
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            writeTuitionClass(out, tuitionClass);
+        }
+    }
+
+    /**
+     * Reads an address book written by {@link #write(ReadOnlyAddressBook, DataOutput)}.
+     *
+     * @throws IOException if the data cannot be read or ends early.
+     * @throws IllegalValueException if the data is not a supported binary address book or violates the model's
+     *     constraints.
+     */
+    static AddressBook read(DataInput in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Tag> tagTable = readTagTable(in);
+
+        int personCount = readCount(in);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(in, tagTable));
+        }
+
+        int classCount = readCount(in);
+        List<TuitionClass> tuitionClasses = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            tuitionClasses.add(readTuitionClass(in));
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses);
+    }
+
+    /**
+     * Returns the distinct tag names used in {@code addressBook}, each mapped to its index in the tag table.
+     */
+    static Map<String, Integer> indexTags(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+        }
+        return tagIndexes;
+    }
+
+    static void writeTagTable(DataOutput out, Map<String, Integer> tagIndexes) throws IOException {
+        out.writeInt(tagIndexes.size());
+        for (String tagName : tagIndexes.keySet()) {
+            writeString(out, tagName);
+        }
+    }
+
+    static List<Tag> readTagTable(DataInput in) throws IOException, IllegalValueException {
+        int tagCount = readCount(in);
+        List<Tag> tagTable = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(in);
+            requireValid(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+            tagTable.add(Tag.of(tagName));
+        }
+        return tagTable;
+    }
+
+    static void writeTags(DataOutput out, Set<Tag> tags, Map<String, Integer> tagIndexes) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    static Set<Tag> readTags(DataInput in, List<Tag> tagTable) throws IOException, IllegalValueException {
+        int tagCount = readCount(in);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            requireValid(tagIndex >= 0 && tagIndex < tagTable.size(), MESSAGE_CORRUPT);
+            tags.add(tagTable.get(tagIndex));
+        }
+        return tags;
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> tagIndexes)
+            throws IOException {
+        writeId(out, person.getId());
+        out.writeByte(person.getCategory().ordinal());
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeTags(out, person.getTags(), tagIndexes);
+
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            writeOptionalId(out, student.getParentId());
+            out.writeBoolean(student.getClassId().isPresent());
+            if (student.getClassId().isPresent()) {
+                writeClassId(out, student.getClassId().get());
+            }
+        } else if (person instanceof Parent) {
+            writeIds(out, ((Parent) person).getChildrenIds());
+        }
+    }
+
+    private static Person readPerson(DataInput in, List<Tag> tagTable) throws IOException, IllegalValueException {
+        PersonId id = readId(in);
+        Category category = readEnum(in, Category.values());
+
+        String name = readString(in);
+        requireValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        String phone = readString(in);
+        requireValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+        String email = readString(in);
+        requireValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+        String address = readString(in);
+        requireValid(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+
+        Set<Tag> tags = readTags(in, tagTable);
+
+        Person person = PersonFactory.createPerson(id, category, new Name(name), new Phone(phone),
+                new Email(email), Address.of(address), tags);
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            if (in.readBoolean()) {
+                student.setParentId(readId(in));
+            }
+            if (in.readBoolean()) {
+                student.setTuitionClass(readClassId(in));
+            }
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            for (PersonId childId : readIds(in)) {
+                parent.addChildId(childId);
+            }
+        }
+        return person;
+    }
+
+    static void writeTuitionClass(DataOutput out, TuitionClass tuitionClass) throws IOException {
+        writeClassId(out, tuitionClass.getClassId());
+        writeOptionalId(out, tuitionClass.getTutorId());
+        writeIds(out, tuitionClass.getStudentIds());
+    }
+
+    static TuitionClass readTuitionClass(DataInput in) throws IOException, IllegalValueException {
+        ClassId classId = readClassId(in);
+        TuitionClass tuitionClass = new TuitionClass(classId.getDay(), classId.getTime());
+        if (in.readBoolean()) {
+            tuitionClass.setTutorId(readId(in));
+        }
+        for (PersonId studentId : readIds(in)) {
+            tuitionClass.addStudentId(studentId);
+        }
+        return tuitionClass;
+    }
+
+    static void writeClassId(DataOutput out, ClassId classId) throws IOException {
+        out.writeByte(classId.getDay().ordinal());
+        out.writeByte(classId.getTime().ordinal());
+    }
+
+    static ClassId readClassId(DataInput in) throws IOException, IllegalValueException {
+        Day day = readEnum(in, Day.values());
+        Time time = readEnum(in, Time.values());
+        return new ClassId(day, time);
+    }
+
+    /**
+     * Writes {@code id} as 128 bits if it is a canonical UUID, or as a string otherwise.
+     */
+    static void writeId(DataOutput out, PersonId id) throws IOException {
+        if (!id.isUuid()) {
+            out.writeByte(ID_STRING);
+            writeString(out, id.getValue());
+            return;
+        }
+        out.writeByte(ID_UUID);
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static PersonId readId(DataInput in) throws IOException, IllegalValueException {
+        byte kind = in.readByte();
+        switch (kind) {
+        case ID_UUID:
+            return PersonId.of(in.readLong(), in.readLong());
+        case ID_STRING:
+            return PersonId.of(readString(in));
+        default:
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+    }
+
+    static void writeOptionalId(DataOutput out, PersonId id) throws IOException {
+        out.writeBoolean(id != null);
+        if (id != null) {
+            writeId(out, id);
+        }
+    }
+
+    static void writeIds(DataOutput out, Set<PersonId> ids) throws IOException {
+        out.writeInt(ids.size());
+        for (PersonId id : ids) {
+            writeId(out, id);
+        }
+    }
+
+    static List<PersonId> readIds(DataInput in) throws IOException, IllegalValueException {
+        int count = readCount(in);
+        List<PersonId> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(readId(in));
+        }
+        return ids;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException, IllegalValueException {
+        int length = readCount(in);
+        requireValid(length <= MAX_STRING_BYTES, MESSAGE_CORRUPT);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readCount(DataInput in) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        requireValid(count >= 0, MESSAGE_CORRUPT);
+        return count;
+    }
+
+    static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException, IllegalValueException {
+        int ordinal = in.readUnsignedByte();
+        requireValid(ordinal < values.length, MESSAGE_CORRUPT);
+        return values[ordinal];
+    }
+
+    static void requireValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+}
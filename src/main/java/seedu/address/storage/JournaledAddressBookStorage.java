@@ -0,0 +1,406 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * A class to access AddressBook data stored as a JSON snapshot plus an append-only journal of changes.
+ *
+ * The snapshot uses the same format as {@link JsonAddressBookStorage}. Saving an address book that this storage has
+ * saved before appends one compact JSON line per changed person or class to {@code <file>.journal}, so the cost of
+ * a save is proportional to the change rather than to the size of the address book. Once the journal grows past a
+ * threshold it is set aside and folded into the snapshot on a background thread. Reading replays any journal
+ * entries on top of the snapshot.
+ *
+ * Every entry has a sequence number, and the snapshot records the number of the last entry it includes. A crash after
+ * a snapshot is written but before the journal it supersedes is deleted thus leaves entries that reading skips, rather
+ * than replays over the newer snapshot.
+ *
+ * Saves prepared with {@link #prepareSave(ReadOnlyAddressBook)} must be run in the order they were prepared. Once one
+ * of them fails, the appends prepared after it refuse to run, so the journal never has a gap where the failed entries
+ * should be, and the next save writes a full snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+    static final String COMPACTING_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path compactingPath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Future<?> pendingCompaction = CompletableFuture.completedFuture(null);
+    private volatile ReadOnlyAddressBook lastSavedAddressBook;
+    private volatile boolean hasFailedWrite;
+    private long lastSavedVersion;
+    private long nextSeq;
+    private int journalLength;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts its journal after
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+        this.compactingPath = filePath.resolveSibling(filePath.getFileName() + COMPACTING_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    Path getCompactingPath() {
+        return compactingPath;
+    }
+
+    /**
+     * Deletes the journal, and any journal set aside for compaction, kept alongside the snapshot at {@code filePath}.
+     */
+    static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(filePath.resolveSibling(filePath.getFileName() + COMPACTING_SUFFIX));
+        Files.deleteIfExists(filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Journal entries are only replayed when reading this storage's own file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        awaitCompaction();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        long lastSnapshotSeq = readLastSnapshotSeq();
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(readEntriesAfter(compactingPath, lastSnapshotSeq));
+        List<JsonAdaptedJournalEntry> journal = readEntriesAfter(journalPath, lastSnapshotSeq);
+        entries.addAll(journal);
+        journalLength = journal.size();
+        nextSeq = entries.isEmpty() ? lastSnapshotSeq + 1 : entries.get(entries.size() - 1).getSeq() + 1;
+
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(replay(snapshot.orElseGet(AddressBook::new), entries));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own file always writes a full snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Captures the journal entries for the changes since the last save, or a full snapshot if those changes are not
+     * known. If the save fails when run, the next save falls back to a full snapshot.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<AddressBookChanges> changes = addressBook == lastSavedAddressBook && !hasFailedWrite
+                ? addressBook.getChangesSince(lastSavedVersion)
+                : Optional.empty();
+        PendingSave save = changes.isPresent()
+                ? prepareJournalAppend(addressBook, changes.get())
+                : prepareSnapshot(addressBook);
+        lastSavedAddressBook = addressBook;
+        lastSavedVersion = addressBook.getVersion();
+        return save;
+    }
+
+    /**
+     * Waits for any background compaction to finish and stops the compaction thread, so that exiting does not cut a
+     * compaction off halfway.
+     */
+    @Override
+    public void close() {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for journal compaction to finish");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        awaitCompaction();
+    }
+
+    /**
+     * Blocks until any background compaction has finished.
+     */
+    void awaitCompaction() {
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    private PendingSave prepareSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        // Entries already in the journal have lower sequence numbers, so they are skipped if it outlives the snapshot
+        PendingSave snapshot = snapshotStorage.prepareSave(addressBook, nextSeq - 1);
+        journalLength = 0;
+        return PendingSave.fullRewrite(() -> runOrForgetLastSave(() -> {
+            awaitCompaction();
+            snapshot.write();
+            Files.deleteIfExists(compactingPath);
+            Files.deleteIfExists(journalPath);
+            hasFailedWrite = false;
+        }));
+    }
+
+    private PendingSave prepareJournalAppend(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return PendingSave.nothing();
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (PersonId personId : changes.getPersonIds()) {
+            JsonAdaptedJournalEntry entry = addressBook.findPersonById(personId)
+                    .map(person -> JsonAdaptedJournalEntry.putPerson(nextSeq, person))
+                    .orElseGet(() -> JsonAdaptedJournalEntry.removePerson(nextSeq, personId));
+            lines.add(JsonUtil.toCompactJsonString(entry));
+            nextSeq++;
+        }
+        for (ClassId classId : changes.getClassIds()) {
+            JsonAdaptedJournalEntry entry = addressBook.findTuitionClass(classId)
+                    .map(tuitionClass -> JsonAdaptedJournalEntry.putClass(nextSeq, tuitionClass))
+                    .orElseGet(() -> JsonAdaptedJournalEntry.removeClass(nextSeq, classId));
+            lines.add(JsonUtil.toCompactJsonString(entry));
+            nextSeq++;
+        }
+
+        journalLength += lines.size();
+        boolean isCompactionDue = journalLength >= compactionThreshold;
+        if (isCompactionDue) {
+            journalLength = 0;
+        }
+
+        return PendingSave.incremental(() -> runOrForgetLastSave(() -> {
+            if (hasFailedWrite) {
+                throw new IOException("Not appending to " + journalPath + " as an earlier save failed");
+            }
+            FileUtil.createParentDirsOfFile(journalPath);
+            Files.write(journalPath, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (isCompactionDue) {
+                scheduleCompaction();
+            }
+        }));
+    }
+
+    /**
+     * Runs {@code write}. If it fails, forgets the last saved address book and stops appending to the journal until
+     * a full snapshot has been written, instead of building on entries that may never have reached the disk.
+     */
+    private void runOrForgetLastSave(PendingSave.Write write) throws IOException {
+        try {
+            write.run();
+        } catch (IOException e) {
+            hasFailedWrite = true;
+            lastSavedAddressBook = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the current journal aside and folds it into the snapshot on the background thread.
+     * New entries keep going to a fresh journal in the meantime.
+     */
+    private void scheduleCompaction() throws IOException {
+        if (compactor.isShutdown()) {
+            // Closing; the journal is compacted after a later save instead
+            return;
+        }
+        if (!pendingCompaction.isDone() || Files.exists(compactingPath)) {
+            // A compaction is running, or an earlier one failed; try again after the next save
+            if (pendingCompaction.isDone()) {
+                pendingCompaction = compactor.submit(this::compact);
+            }
+            return;
+        }
+        Files.move(journalPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+        pendingCompaction = compactor.submit(this::compact);
+    }
+
+    /**
+     * Replays the set-aside journal over the snapshot and atomically replaces the snapshot with the result.
+     * Runs on the background thread and touches only files, never the live address book.
+     */
+    private Void compact() throws IOException, DataLoadingException, IllegalValueException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        long lastSnapshotSeq = readLastSnapshotSeq();
+        List<JsonAdaptedJournalEntry> entries = readEntriesAfter(compactingPath, lastSnapshotSeq);
+        AddressBook compacted = replay(snapshot.orElseGet(AddressBook::new), entries);
+
+        long lastCompactedSeq = entries.isEmpty() ? lastSnapshotSeq : entries.get(entries.size() - 1).getSeq();
+        snapshotStorage.saveAddressBook(compacted, filePath, lastCompactedSeq);
+        Files.delete(compactingPath);
+        logger.fine("Compacted address book journal into " + filePath);
+        return null;
+    }
+
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        Map<PersonId, Person> persons = new LinkedHashMap<>();
+        for (Person person : snapshot.getPersonList()) {
+            persons.put(person.getId(), person);
+        }
+        Map<ClassId, TuitionClass> tuitionClasses = new LinkedHashMap<>();
+        for (TuitionClass tuitionClass : snapshot.getTuitionClassList()) {
+            tuitionClasses.put(tuitionClass.getClassId(), tuitionClass);
+        }
+
+        for (JsonAdaptedJournalEntry entry : entries) {
+            entry.applyTo(persons, tuitionClasses);
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(new ArrayList<>(persons.values()),
+                new ArrayList<>(tuitionClasses.values()));
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry included in the snapshot.
+     */
+    private long readLastSnapshotSeq() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return JsonAddressBookStream.NO_JOURNAL_SEQ;
+        }
+        try {
+            return JsonAddressBookStream.readLastJournalSeq(filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the entries of the journal at {@code path} with sequence numbers above {@code lastSnapshotSeq},
+     * stopping at the first line that cannot be parsed, which is what a write interrupted by a crash leaves behind.
+     */
+    private static List<JsonAdaptedJournalEntry> readEntriesAfter(Path path, long lastSnapshotSeq)
+            throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return entries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring unreadable journal entries in " + path + " from: " + line);
+                    break;
+                }
+                if (entry.getSeq() > lastSnapshotSeq) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * A {@code PUT} entry carries the full new state of a person or class; a {@code REMOVE} entry carries only its id.
+ * Applying an entry is idempotent, so replaying entries that are already reflected in the snapshot is harmless.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_MALFORMED_ENTRY = "Journal entry %d is missing its %s.";
+
+    /**
+     * The kinds of mutation a journal entry can record.
+     */
+    enum Operation {
+        PUT_PERSON, REMOVE_PERSON, PUT_CLASS, REMOVE_CLASS
+    }
+
+    private final long seq;
+    private final Operation op;
+    private final JsonAdaptedPerson person;
+    private final String personId;
+    private final JsonAdaptedTuitionClass tuitionClass;
+    private final JsonAdaptedClassId classId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("seq") long seq, @JsonProperty("op") Operation op,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("personId") String personId,
+                                   @JsonProperty("tuitionClass") JsonAdaptedTuitionClass tuitionClass,
+                                   @JsonProperty("classId") JsonAdaptedClassId classId) {
+        this.seq = seq;
+        this.op = op;
+        this.person = person;
+        this.personId = personId;
+        this.tuitionClass = tuitionClass;
+        this.classId = classId;
+    }
+
+    static JsonAdaptedJournalEntry putPerson(long seq, Person person) {
+        return new JsonAdaptedJournalEntry(seq, Operation.PUT_PERSON, new JsonAdaptedPerson(person),
+                null, null, null);
+    }
+
+    static JsonAdaptedJournalEntry removePerson(long seq, PersonId personId) {
+        return new JsonAdaptedJournalEntry(seq, Operation.REMOVE_PERSON, null, personId.getValue(), null, null);
+    }
+
+    static JsonAdaptedJournalEntry putClass(long seq, TuitionClass tuitionClass) {
+        return new JsonAdaptedJournalEntry(seq, Operation.PUT_CLASS, null, null,
+                new JsonAdaptedTuitionClass(tuitionClass), null);
+    }
+
+    static JsonAdaptedJournalEntry removeClass(long seq, ClassId classId) {
+        return new JsonAdaptedJournalEntry(seq, Operation.REMOVE_CLASS, null, null, null,
+                new JsonAdaptedClassId(classId));
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Applies this entry to the given id-keyed views of an address book.
+     *
+     * @throws IllegalValueException if the entry is malformed or carries invalid data.
+     */
+    public void applyTo(Map<PersonId, Person> persons, Map<ClassId, TuitionClass> tuitionClasses)
+            throws IllegalValueException {
+        requireNonNull(persons);
+        requireNonNull(tuitionClasses);
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MALFORMED_ENTRY, seq, "operation"));
+        }
+
+        switch (op) {
+        case PUT_PERSON:
+            requirePresent(person, "person");
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getId(), modelPerson);
+            break;
+        case REMOVE_PERSON:
+            requirePresent(personId, "person id");
+            persons.remove(PersonId.of(personId));
+            break;
+        case PUT_CLASS:
+            requirePresent(tuitionClass, "class");
+            TuitionClass modelClass = tuitionClass.toModelType();
+            tuitionClasses.put(modelClass.getClassId(), modelClass);
+            break;
+        case REMOVE_CLASS:
+            requirePresent(classId, "class id");
+            tuitionClasses.remove(classId.toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_MALFORMED_ENTRY, seq, "operation"));
+        }
+    }
+
+    private void requirePresent(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MALFORMED_ENTRY, seq, fieldName));
+        }
+    }
+}
@@ -20,8 +20,8 @@ import seedu.address.model.person.PersonFactory;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
-import seedu.address.model.person.Tutor;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -74,6 +74,14 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, Links.of(source));
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, taking the persons and class it is linked to
+     * from {@code links} rather than from {@code source}, which may have been relinked since.
+     */
+    JsonAdaptedPerson(Person source, Links links) {
         id = source.getId().getValue();
         category = source.getCategory().toString();
         name = source.getName().fullName;
@@ -84,30 +92,11 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedTag::new)
                 .toList());
 
-        // Handle Student, Parent and TuitionClass specific fields
-        if (source instanceof Student) {
-            Student student = (Student) source;
-            this.linkedParentId = student.getParentId() != null ? student.getParentId().getValue() : null;
-            this.childrenIds = new ArrayList<>(); // Student has no children
-            this.classId = student.getClassId().map(JsonAdaptedClassId::new).orElse(null);
-        } else if (source instanceof Parent) {
-            Parent parent = (Parent) source;
-            this.linkedParentId = null; // Parent has no linked parent
-            this.childrenIds = parent.getChildrenIds().stream()
-                    .map(PersonId::getValue)
-                    .collect(Collectors.toList());
-            this.classId = null;
-        } else if (source instanceof Tutor) {
-            Tutor tutor = (Tutor) source;
-            this.linkedParentId = null; // Tutor has no linked parent
-            this.childrenIds = new ArrayList<>();
-            this.classId = null;
-        } else {
-            // Default case for other Person types
-            this.linkedParentId = null;
-            this.childrenIds = new ArrayList<>();
-            this.classId = null;
-        }
+        linkedParentId = links.parentId != null ? links.parentId.getValue() : null;
+        childrenIds = links.childrenIds.stream()
+                .map(PersonId::getValue)
+                .collect(Collectors.toList());
+        classId = links.classId != null ? new JsonAdaptedClassId(links.classId) : null;
     }
 
     /**
@@ -156,7 +145,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -192,4 +181,37 @@ class JsonAdaptedPerson {
         return person;
     }
 
+
+    /**
+     * The persons and class a {@link Person} is linked to at one point in time.
+     * The model relinks persons in place, so a save captures these before converting the person later.
+     */
+    static final class Links {
+
+        private static final Links NONE = new Links(null, null, List.of());
+
+        private final PersonId parentId;
+        private final ClassId classId;
+        private final List<PersonId> childrenIds;
+
+        private Links(PersonId parentId, ClassId classId, List<PersonId> childrenIds) {
+            this.parentId = parentId;
+            this.classId = classId;
+            this.childrenIds = childrenIds;
+        }
+
+        /**
+         * Returns the current links of {@code person}.
+         */
+        static Links of(Person person) {
+            if (person instanceof Student) {
+                Student student = (Student) person;
+                return new Links(student.getParentId(), student.getClassId().orElse(null), List.of());
+            } else if (person instanceof Parent) {
+                return new Links(null, null, List.copyOf(((Parent) person).getChildrenIds()));
+            } else {
+                return NONE;
+            }
+        }
+    }
 }
@@ -46,10 +46,18 @@ class JsonAdaptedTuitionClass {
      * Converts a given {@code TuitionClass} into this class for Jackson use.
      */
     public JsonAdaptedTuitionClass(TuitionClass source) {
+        this(source, Links.of(source));
+    }
+
+    /**
+     * Converts a given {@code TuitionClass} into this class for Jackson use, taking its tutor and students from
+     * {@code links} rather than from {@code source}, which may have been relinked since.
+     */
+    JsonAdaptedTuitionClass(TuitionClass source, Links links) {
         day = source.getDay().toString();
         time = source.getTime().toString();
-        tutorId = (source.getTutorId() == null) ? null : source.getTutorId().getValue();
-        studentIds.addAll(source.getStudentIds().stream()
+        tutorId = (links.tutorId == null) ? null : links.tutorId.getValue();
+        studentIds.addAll(links.studentIds.stream()
                 .map(PersonId::getValue)
                 .collect(Collectors.toList()));
     }
@@ -99,4 +107,26 @@ class JsonAdaptedTuitionClass {
 
         return tuitionClass;
     }
+
+    /**
+     * The tutor and students a {@link TuitionClass} is linked to at one point in time.
+     * The model relinks classes in place, so a save captures these before converting the class later.
+     */
+    static final class Links {
+
+        private final PersonId tutorId;
+        private final List<PersonId> studentIds;
+
+        private Links(PersonId tutorId, List<PersonId> studentIds) {
+            this.tutorId = tutorId;
+            this.studentIds = studentIds;
+        }
+
+        /**
+         * Returns the current links of {@code tuitionClass}.
+         */
+        static Links of(TuitionClass tuitionClass) {
+            return new Links(tuitionClass.getTutorId(), List.copyOf(tuitionClass.getStudentIds()));
+        }
+    }
 }
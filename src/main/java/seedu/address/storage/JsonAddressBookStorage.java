@@ -3,16 +3,19 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -38,6 +41,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is parsed one record at a time, see {@link JsonAddressBookStream}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +49,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookStream.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,15 +71,59 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each record is converted to JSON as it is written, see {@link JsonAddressBookStream}.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, JsonAddressBookStream.NO_JOURNAL_SEQ);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also records {@code lastJournalSeq},
+     * see {@link JsonAddressBookStream#write(Iterable, Iterable, long, Path)}.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long lastJournalSeq) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterable<JsonAdaptedPerson> persons = () -> addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).iterator();
+        Iterable<JsonAdaptedTuitionClass> tuitionClasses = () -> addressBook.getTuitionClassList().stream()
+                .map(JsonAdaptedTuitionClass::new).iterator();
+        JsonAddressBookStream.write(persons, tuitionClasses, lastJournalSeq, filePath);
+    }
+
+    /**
+     * Captures the persons and classes of the address book and the links between them, and converts each record to
+     * JSON as it is written when the save is run.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) {
+        return prepareSave(addressBook, JsonAddressBookStream.NO_JOURNAL_SEQ);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook)}, but also records {@code lastJournalSeq},
+     * see {@link JsonAddressBookStream#write(Iterable, Iterable, long, Path)}.
+     */
+    PendingSave prepareSave(ReadOnlyAddressBook addressBook, long lastJournalSeq) {
+        requireNonNull(addressBook);
+
+        List<Person> personList = List.copyOf(addressBook.getPersonList());
+        List<JsonAdaptedPerson.Links> personLinks = personList.stream().map(JsonAdaptedPerson.Links::of).toList();
+        List<TuitionClass> tuitionClassList = List.copyOf(addressBook.getTuitionClassList());
+        List<JsonAdaptedTuitionClass.Links> tuitionClassLinks = tuitionClassList.stream()
+                .map(JsonAdaptedTuitionClass.Links::of).toList();
+
+        Iterable<JsonAdaptedPerson> persons = () -> IntStream.range(0, personList.size())
+                .mapToObj(i -> new JsonAdaptedPerson(personList.get(i), personLinks.get(i))).iterator();
+        Iterable<JsonAdaptedTuitionClass> tuitionClasses = () -> IntStream.range(0, tuitionClassList.size())
+                .mapToObj(i -> new JsonAdaptedTuitionClass(tuitionClassList.get(i), tuitionClassLinks.get(i)))
+                .iterator();
+        Path target = filePath;
+        return PendingSave.fullRewrite(() -> JsonAddressBookStream.write(persons, tuitionClasses, lastJournalSeq,
+                target));
     }
 
 }
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Reads and writes the JSON form of an address book one record at a time.
+ *
+ * The format is the one produced by {@link JsonSerializableAddressBook}, but only a single {@link JsonAdaptedPerson}
+ * or {@link JsonAdaptedTuitionClass} is held in memory at once, rather than the whole file as a string plus the whole
+ * address book in its adapted form.
+ */
+final class JsonAddressBookStream {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String TUITION_CLASSES_FIELD = "tuitionClasses";
+    static final String LAST_JOURNAL_SEQ_FIELD = "lastJournalSeq";
+
+    /** The last journal sequence number of a file that does not record one, which no journal entry is at or below. */
+    static final long NO_JOURNAL_SEQ = -1;
+
+    private JsonAddressBookStream() {}
+
+    /**
+     * Reads the address book in the file at {@code filePath}, converting each record into the model as it is parsed.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if any record violates the model's constraints.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>();
+        List<TuitionClass> tuitionClasses = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                    }
+                } else if (TUITION_CLASSES_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tuitionClasses.add(parser.readValueAs(JsonAdaptedTuitionClass.class).toModelType());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses);
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry folded into the file at {@code filePath}, or
+     * {@link #NO_JOURNAL_SEQ} if it does not record one. Only the start of the file is read, as the number is written
+     * before any record.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     */
+    static long readLastJournalSeq(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            if (parser.nextToken() == JsonToken.FIELD_NAME
+                    && LAST_JOURNAL_SEQ_FIELD.equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+        }
+        return NO_JOURNAL_SEQ;
+    }
+
+    /**
+     * Writes the given records to the file at {@code filePath}, replacing it atomically.
+     * Records are taken from the iterables one at a time, so they may be adapted lazily from the model.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    static void write(Iterable<JsonAdaptedPerson> persons, Iterable<JsonAdaptedTuitionClass> tuitionClasses,
+            Path filePath) throws IOException {
+        write(persons, tuitionClasses, NO_JOURNAL_SEQ, filePath);
+    }
+
+    /**
+     * Similar to {@link #write(Iterable, Iterable, Path)}, but also records {@code lastJournalSeq}, the sequence
+     * number of the last journal entry the records include, unless it is {@link #NO_JOURNAL_SEQ}.
+     */
+    static void write(Iterable<JsonAdaptedPerson> persons, Iterable<JsonAdaptedTuitionClass> tuitionClasses,
+            long lastJournalSeq, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(tuitionClasses);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                if (lastJournalSeq != NO_JOURNAL_SEQ) {
+                    generator.writeNumberField(LAST_JOURNAL_SEQ_FIELD, lastJournalSeq);
+                }
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (JsonAdaptedPerson person : persons) {
+                    generator.writeObject(person);
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(TUITION_CLASSES_FIELD);
+                for (JsonAdaptedTuitionClass tuitionClass : tuitionClasses) {
+                    generator.writeObject(tuitionClass);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
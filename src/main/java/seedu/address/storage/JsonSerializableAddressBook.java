@@ -11,7 +11,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -50,25 +52,39 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All records are converted first and then handed to the address book in bulk, so that uniqueness is
+     * validated in a single pass rather than once per record.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
 
+        List<TuitionClass> modelClasses = new ArrayList<>(tuitionClasses.size());
         for (JsonAdaptedTuitionClass jsonAdaptedClass : tuitionClasses) {
-            TuitionClass tuitionClass = jsonAdaptedClass.toModelType();
-            if (addressBook.hasTuitionClass(tuitionClass)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
-            }
-            addressBook.addTuitionClass(tuitionClass);
+            modelClasses.add(jsonAdaptedClass.toModelType());
+        }
+
+        return toAddressBook(modelPersons, modelClasses);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding the given persons and classes.
+     *
+     * @throws IllegalValueException if the persons or the classes contain duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons, List<TuitionClass> tuitionClasses)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setData(persons, tuitionClasses);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateTuitionClassException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLASS);
         }
         return addressBook;
     }
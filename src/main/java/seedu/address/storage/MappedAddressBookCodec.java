@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryAddressBookCodec.MESSAGE_CORRUPT;
+import static seedu.address.storage.BinaryAddressBookCodec.readClassId;
+import static seedu.address.storage.BinaryAddressBookCodec.readEnum;
+import static seedu.address.storage.BinaryAddressBookCodec.readId;
+import static seedu.address.storage.BinaryAddressBookCodec.readIds;
+import static seedu.address.storage.BinaryAddressBookCodec.readString;
+import static seedu.address.storage.BinaryAddressBookCodec.readTags;
+import static seedu.address.storage.BinaryAddressBookCodec.requireValid;
+import static seedu.address.storage.BinaryAddressBookCodec.writeClassId;
+import static seedu.address.storage.BinaryAddressBookCodec.writeId;
+import static seedu.address.storage.BinaryAddressBookCodec.writeIds;
+import static seedu.address.storage.BinaryAddressBookCodec.writeOptionalId;
+import static seedu.address.storage.BinaryAddressBookCodec.writeString;
+import static seedu.address.storage.BinaryAddressBookCodec.writeTags;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * Encodes an address book as a file of person records that can be memory-mapped and decoded lazily, for use by
+ * {@link MappedAddressBookStorage}.
+ *
+ * <pre>
+ * file       := MAGIC:int  VERSION:int  person*  tagTable  classes  index  trailer
+ * person     := id  category:byte  name:string  phone:string  [student | parent]  details
+ * details    := email:string  address:string  tagCount:int  tagIndex:int*
+ * classes    := count:int  class*
+ * index      := personOffset:int*
+ * trailer    := personCount:int  tagTableOffset:int  classesOffset:int  indexOffset:int
+ * </pre>
+ *
+ * The remaining parts are encoded as in {@link BinaryAddressBookCodec}. Offsets are from the start of the file,
+ * which therefore cannot exceed 2 GiB. Reading decodes everything except the {@code details} of each person, which
+ * are only bounds-checked and are decoded from the mapping when first used.
+ */
+final class MappedAddressBookCodec {
+
+    /** The bytes "TPMM", which start every mapped address book file. */
+    static final int MAGIC = 0x54504D4D;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_MAPPED = "File is not a mapped address book.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Mapped address book version %d is not supported.";
+    static final String MESSAGE_TOO_LARGE = "Address book is too large for the mapped format.";
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int TRAILER_BYTES = 4 * Integer.BYTES;
+
+    private MappedAddressBookCodec() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which must be at the start of the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        Map<String, Integer> tagIndexes = BinaryAddressBookCodec.indexTags(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        int[] personOffsets = new int[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            personOffsets[i] = offsetOf(out);
+            writePerson(out, persons.get(i), tagIndexes);
+        }
+
+        int tagTableOffset = offsetOf(out);
+        BinaryAddressBookCodec.writeTagTable(out, tagIndexes);
+
+        int classesOffset = offsetOf(out);
+        out.writeInt(addressBook.getTuitionClassList().size());
+        for (TuitionClass tuitionClass : addressBook.getTuitionClassList()) {
+            BinaryAddressBookCodec.writeTuitionClass(out, tuitionClass);
+        }
+
+        int indexOffset = offsetOf(out);
+        for (int personOffset : personOffsets) {
+            out.writeInt(personOffset);
+        }
+
+        out.writeInt(persons.size());
+        out.writeInt(tagTableOffset);
+        out.writeInt(classesOffset);
+        out.writeInt(indexOffset);
+        offsetOf(out);
+    }
+
+    /**
+     * Maps the file at {@code filePath} and reads the address book in it. The email, address and tags of each person
+     * are left in the mapping until first used.
+     *
+     * @throws IOException if the file cannot be mapped.
+     * @throws IllegalValueException if the file is not a supported mapped address book or violates the model's
+     *     constraints.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            requireValidSize(size);
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return decode(buffer);
+    }
+
+    /**
+     * Reads the address book in {@code bytes}, which hold a whole mapped address book file. The email, address and
+     * tags of each person are left in {@code bytes} until first used.
+     *
+     * @throws IllegalValueException if the bytes are not a supported mapped address book or violate the model's
+     *     constraints.
+     */
+    static AddressBook read(byte[] bytes) throws IOException, IllegalValueException {
+        requireNonNull(bytes);
+
+        requireValidSize(bytes.length);
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    private static void requireValidSize(long size) throws IllegalValueException {
+        requireValid(size >= HEADER_BYTES + TRAILER_BYTES && size <= Integer.MAX_VALUE, MESSAGE_NOT_MAPPED);
+    }
+
+    private static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            return decodeChecked(buffer);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+    }
+
+    private static AddressBook decodeChecked(ByteBuffer buffer) throws IOException, IllegalValueException {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_MAPPED);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int trailer = buffer.limit() - TRAILER_BYTES;
+        int personCount = buffer.getInt(trailer);
+        int tagTableOffset = buffer.getInt(trailer + Integer.BYTES);
+        int classesOffset = buffer.getInt(trailer + 2 * Integer.BYTES);
+        int indexOffset = buffer.getInt(trailer + 3 * Integer.BYTES);
+        requireValid(personCount >= 0 && indexOffset >= 0
+                && (long) indexOffset + (long) personCount * Integer.BYTES == trailer, MESSAGE_CORRUPT);
+
+        List<Tag> tagTable = BinaryAddressBookCodec.readTagTable(inputAt(buffer, tagTableOffset));
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(buffer, buffer.getInt(indexOffset + i * Integer.BYTES), tagTable));
+        }
+
+        DataInputStream classes = inputAt(buffer, classesOffset);
+        int classCount = BinaryAddressBookCodec.readCount(classes);
+        List<TuitionClass> tuitionClasses = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            tuitionClasses.add(BinaryAddressBookCodec.readTuitionClass(classes));
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(persons, tuitionClasses);
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> tagIndexes)
+            throws IOException {
+        writeId(out, person.getId());
+        out.writeByte(person.getCategory().ordinal());
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            writeOptionalId(out, student.getParentId());
+            out.writeBoolean(student.getClassId().isPresent());
+            if (student.getClassId().isPresent()) {
+                writeClassId(out, student.getClassId().get());
+            }
+        } else if (person instanceof Parent) {
+            writeIds(out, ((Parent) person).getChildrenIds());
+        }
+
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeTags(out, person.getTags(), tagIndexes);
+    }
+
+    /**
+     * Decodes the person whose record starts at {@code offset}, up to but not including their details.
+     */
+    private static Person readPerson(ByteBuffer buffer, int offset, List<Tag> tagTable)
+            throws IOException, IllegalValueException {
+        ByteBufferInputStream stream = new ByteBufferInputStream(buffer, offset);
+        DataInputStream in = new DataInputStream(stream);
+
+        PersonId id = readId(in);
+        Category category = readEnum(in, Category.values());
+        String name = readString(in);
+        requireValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        String phone = readString(in);
+        requireValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+
+        PersonId parentId = null;
+        ClassId classId = null;
+        List<PersonId> childrenIds = List.of();
+        if (category == Category.STUDENT) {
+            parentId = in.readBoolean() ? readId(in) : null;
+            classId = in.readBoolean() ? readClassId(in) : null;
+        } else if (category == Category.PARENT) {
+            childrenIds = readIds(in);
+        }
+
+        int detailsOffset = stream.position();
+        skipDetails(in, tagTable.size());
+        Person person = PersonFactory.createPerson(id, category, new Name(name), new Phone(phone), () ->
+                readDetails(buffer, detailsOffset, tagTable));
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            if (parentId != null) {
+                student.setParentId(parentId);
+            }
+            if (classId != null) {
+                student.setTuitionClass(classId);
+            }
+        } else if (person instanceof Parent) {
+            Parent parent = (Parent) person;
+            for (PersonId childId : childrenIds) {
+                parent.addChildId(childId);
+            }
+        }
+        return person;
+    }
+
+    /**
+     * Checks that the details at the position of {@code in} lie within the file and refer only to tags in the tag
+     * table, without decoding their strings. A corrupt file is then rejected when it is read rather than when some
+     * person's details are first used.
+     */
+    private static void skipDetails(DataInputStream in, int tagTableSize) throws IOException, IllegalValueException {
+        for (int i = 0; i < 2; i++) {
+            int length = BinaryAddressBookCodec.readCount(in);
+            requireValid(length <= BinaryAddressBookCodec.MAX_STRING_BYTES && in.skipBytes(length) == length,
+                    MESSAGE_CORRUPT);
+        }
+        int tagCount = BinaryAddressBookCodec.readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            requireValid(tagIndex >= 0 && tagIndex < tagTableSize, MESSAGE_CORRUPT);
+        }
+    }
+
+    /**
+     * Decodes the details that start at {@code offset}. Runs when the details are first used, so problems are
+     * reported as unchecked exceptions. Only the email and address formats can still be wrong by then, as
+     * {@link #skipDetails} has checked the rest.
+     */
+    private static PersonDetails readDetails(ByteBuffer buffer, int offset, List<Tag> tagTable) {
+        try {
+            DataInputStream in = inputAt(buffer, offset);
+            String email = readString(in);
+            requireValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            String address = readString(in);
+            requireValid(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+            return new PersonDetails(new Email(email), Address.of(address), readTags(in, tagTable));
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    private static DataInputStream inputAt(ByteBuffer buffer, int offset) throws IllegalValueException {
+        return new DataInputStream(new ByteBufferInputStream(buffer, offset));
+    }
+
+    private static int offsetOf(DataOutputStream out) throws IOException {
+        // DataOutputStream#size saturates at Integer.MAX_VALUE
+        if (out.size() == Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_TOO_LARGE);
+        }
+        return out.size();
+    }
+
+    /**
+     * Reads from its own view of a shared buffer, so any number of them can read the same mapping concurrently.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer source, int position) throws IllegalValueException {
+            requireValid(position >= 0 && position <= source.limit(), MESSAGE_CORRUPT);
+            buffer = source.duplicate();
+            buffer.position(position);
+        }
+
+        int position() {
+            return buffer.position();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+    }
+}
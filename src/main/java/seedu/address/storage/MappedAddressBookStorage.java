@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a memory-mapped file of person records.
+ *
+ * Reading maps the file and decodes only what listing and indexing the persons needs: ids, categories, names,
+ * phones and links. Each person's email, address and tags are decoded from the mapping the first time they are used,
+ * so startup work stays small however large the book is. The format is described in {@link MappedAddressBookCodec}.
+ *
+ * Some platforms, such as Windows, refuse to replace a file that is still mapped, and the JDK cannot unmap a file on
+ * demand. Once this storage has mapped the data file, saves therefore go to a pending file beside it instead, which
+ * the next read moves over the data file before mapping it. On such platforms that move fails while this process
+ * still maps the data file, so each data file should be read only once per process.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    static final String PENDING_SAVE_SUFFIX = ".next";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isMappingFile;
+
+    /** The data file this storage has mapped, whose saves go to its pending file. */
+    private volatile Path mappedFilePath;
+
+    /**
+     * Creates a storage for the mapped address book file at {@code filePath}.
+     */
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the mapped address book file at {@code filePath}. If {@code isMappingFile} is false,
+     * reads load the whole file into memory instead of mapping it, so the file can be replaced straight away, such
+     * as when converting it to another format.
+     */
+    MappedAddressBookStorage(Path filePath, boolean isMappingFile) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isMappingFile = isMappingFile;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            promotePendingSave(filePath);
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            if (!isMappingFile) {
+                return Optional.of(MappedAddressBookCodec.read(Files.readAllBytes(filePath)));
+            }
+            // Set before mapping, as a mapping that fails to decode can still block replacing the file
+            mappedFilePath = filePath;
+            return Optional.of(MappedAddressBookCodec.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error mapping file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    static Path getPendingSavePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PENDING_SAVE_SUFFIX);
+    }
+
+    /**
+     * Moves the pending save of the file at {@code filePath}, if there is one, over the file.
+     */
+    private static void promotePendingSave(Path filePath) throws IOException {
+        Path pendingSave = getPendingSavePath(filePath);
+        if (Files.exists(pendingSave)) {
+            logger.fine("Moving pending save " + pendingSave + " over " + filePath);
+            Files.move(pendingSave, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Returns the file a save of the file at {@code filePath} should write: its pending file if this storage has
+     * mapped it, and otherwise the file itself, once any older pending save can no longer be moved over it.
+     */
+    private Path getSaveTarget(Path filePath) throws IOException {
+        if (filePath.equals(mappedFilePath)) {
+            return getPendingSavePath(filePath);
+        }
+        promotePendingSave(filePath);
+        return filePath;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(getSaveTarget(filePath), out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            MappedAddressBookCodec.write(addressBook, data);
+            data.flush();
+        });
+    }
+
+    /**
+     * Encodes the address book immediately and writes the encoded bytes when the save is run.
+     */
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MappedAddressBookCodec.write(addressBook, new DataOutputStream(bytes));
+        return PendingSave.fullRewrite(() -> FileUtil.writeToFileAtomically(getSaveTarget(filePath), bytes::writeTo));
+    }
+}
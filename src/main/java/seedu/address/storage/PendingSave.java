@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+/**
+ * A save of an address book whose contents were captured when it was prepared, so it can be written later from
+ * any thread while the address book itself keeps changing.
+ */
+public final class PendingSave {
+
+    /**
+     * Writes the captured contents.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private static final PendingSave NOTHING = new PendingSave(() -> {}, false);
+
+    private final Write write;
+    private final boolean isFullRewrite;
+
+    private PendingSave(Write write, boolean isFullRewrite) {
+        requireNonNull(write);
+        this.write = write;
+        this.isFullRewrite = isFullRewrite;
+    }
+
+    /**
+     * Returns a save that rewrites the whole file, making any earlier save that has not run yet redundant.
+     */
+    public static PendingSave fullRewrite(Write write) {
+        return new PendingSave(write, true);
+    }
+
+    /**
+     * Returns a save that builds on the saves before it, all of which must still run.
+     */
+    public static PendingSave incremental(Write write) {
+        return new PendingSave(write, false);
+    }
+
+    /**
+     * Returns a save that writes nothing.
+     */
+    public static PendingSave nothing() {
+        return NOTHING;
+    }
+
+    public boolean isFullRewrite() {
+        return isFullRewrite;
+    }
+
+    /**
+     * Writes the captured contents to storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void write() throws IOException {
+        write.run();
+    }
+}
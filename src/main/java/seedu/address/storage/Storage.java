@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save started so far has been written.
+     * @throws IOException if a save failed and the address book has not been saved in full since.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler told about address book saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * has returned. The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
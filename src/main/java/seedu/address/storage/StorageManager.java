@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,19 +14,38 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * In write-behind mode, {@link #saveAddressBook(ReadOnlyAddressBook)} only captures the address book and returns;
+ * the write itself happens on a background thread, and failures are reported to the save failure handler.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final BackgroundSaveQueue saveQueue;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book before returning.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveQueue = isWriteBehind ? new BackgroundSaveQueue() : null;
+    }
+
+    public boolean isWriteBehind() {
+        return saveQueue != null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,18 +81,59 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingSaves();
         return addressBookStorage.readAddressBook(filePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (!isWriteBehind()) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        logger.fine("Queueing write to data file: " + addressBookStorage.getAddressBookFilePath());
+        saveQueue.submit(addressBookStorage.prepareSave(addressBook));
     }
 
+    /**
+     * Saves the address book before returning, even in write-behind mode.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitPendingSaves();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (isWriteBehind()) {
+            saveQueue.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        addressBookStorage.close();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        if (isWriteBehind()) {
+            saveQueue.setFailureHandler(handler);
+        }
+    }
+
+    private void awaitPendingSaves() {
+        if (isWriteBehind()) {
+            saveQueue.awaitIdle();
+        }
+    }
+
 }
@@ -1,42 +1,64 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Pressing Tab after {@code n/} completes the name being typed from the names of existing persons.
+ * While a command is being executed the command box is busy, and takes no input until the command is done.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
+    private static final String NAME_PREFIX = "n/";
+    private static final int MAX_COMPLETIONS = 10;
 
     private final CommandExecutor commandExecutor;
+    private final NameCompleter nameCompleter;
+    private final ContextMenu completionMenu = new ContextMenu();
+    private boolean isBusy;
 
     @FXML
     private TextArea commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameCompleter nameCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameCompleter = nameCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            completionMenu.hide();
+        });
 
-        // handle "enter" for TextArea input
+        // handle "enter" and "tab" for TextArea input
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
-            if (event.getCode() == KeyCode.ENTER) {
+            if (isBusy) {
+                return;
+            } else if (event.getCode() == KeyCode.ENTER) {
                 event.consume();
                 handleCommandEntered();
+            } else if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                handleCompletionRequested();
             }
         });
     }
@@ -51,12 +73,107 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows whether a command is being executed, during which the command box cannot be edited.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        commandTextField.setEditable(!isBusy);
+        completionMenu.hide();
+        if (isBusy) {
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Handles the Tab button pressed event.
+     * Completes the name before the caret as far as all matching names agree, and lists the matches if there are
+     * several.
+     */
+    private void handleCompletionRequested() {
+        String text = commandTextField.getText();
+        int caret = commandTextField.getCaretPosition();
+        int start = findNameStart(text, caret);
+        if (start < 0) {
+            return;
+        }
+
+        List<Name> names = nameCompleter.complete(text.substring(start, caret), MAX_COMPLETIONS);
+        if (names.isEmpty()) {
+            return;
+        }
+        if (names.size() == 1) {
+            replaceName(start, caret, names.get(0).fullName);
+            return;
+        }
+
+        String common = commonPrefix(names);
+        if (common.length() > caret - start) {
+            replaceName(start, caret, common);
+        }
+        showCompletions(names, start);
+    }
+
+    /**
+     * Lists {@code names} below the command box. Choosing one replaces the name being typed from {@code start}.
+     */
+    private void showCompletions(List<Name> names, int start) {
+        completionMenu.getItems().clear();
+        for (Name name : names) {
+            MenuItem item = new MenuItem(name.fullName);
+            item.setOnAction(event -> replaceName(start, commandTextField.getCaretPosition(), name.fullName));
+            completionMenu.getItems().add(item);
+        }
+        completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    private void replaceName(int start, int end, String name) {
+        commandTextField.replaceText(start, end, name);
+        commandTextField.positionCaret(start + name.length());
+    }
+
+    /**
+     * Returns the position in {@code text} where the name being typed before {@code caret} begins, that is just after
+     * the last {@code n/} prefix, or -1 if the caret is not within a name.
+     */
+    static int findNameStart(String text, int caret) {
+        int prefixAt = text.lastIndexOf(NAME_PREFIX, caret - NAME_PREFIX.length());
+        if (prefixAt < 0 || (prefixAt > 0 && !Character.isWhitespace(text.charAt(prefixAt - 1)))) {
+            return -1;
+        }
+        int start = prefixAt + NAME_PREFIX.length();
+        // another prefix after n/ means the caret is in a later argument
+        return text.substring(start, caret).indexOf('/') < 0 ? start : -1;
+    }
+
+    /**
+     * Returns the longest prefix, ignoring case, shared by all of {@code names}, in the case of the first name.
+     */
+    static String commonPrefix(List<Name> names) {
+        String first = names.get(0).fullName;
+        int length = first.length();
+        for (Name name : names) {
+            String other = name.fullName;
+            int i = 0;
+            while (i < length && i < other.length() && first.regionMatches(true, i, other, i, 1)) {
+                i++;
+            }
+            length = i;
         }
+        return first.substring(0, length);
     }
 
     /**
@@ -85,11 +202,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, returning a future completed on the JavaFX application thread with the
+         * result, or exceptionally if the command could not be parsed or executed.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that suggests names of existing persons.
+     */
+    @FunctionalInterface
+    public interface NameCompleter {
+        /**
+         * Returns up to {@code limit} names starting with {@code prefix}, ignoring case.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getNamesByPrefix(String, int)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<Name> complete(String prefix, int limit);
     }
 
 }
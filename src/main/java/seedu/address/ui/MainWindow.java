@@ -1,10 +1,12 @@
 package seedu.address.ui;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -17,11 +19,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonId;
-import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -116,38 +114,31 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        // Create a person lookup function that searches through all persons
-        Function<PersonId, Optional<Person>> personLookup = personId ->
-            logic.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getId().equals(personId))
-                .findFirst();
-
-        // Create a tuition class lookup function for students or tutors that always gets current data
-        Function<Person, List<TuitionClass>> tuitionClassLookup = person -> {
-            if (person instanceof seedu.address.model.person.Tutor) {
-                // Always get the current tuition class list to ensure real-time updates
-                return logic.getAddressBook().getTuitionClassList().stream()
-                    .filter(tc -> person.getId().equals(tc.getTutorId()))
-                    .toList();
-            }
-            if (person instanceof seedu.address.model.person.Student) {
-                return logic.getAddressBook().getTuitionClassList().stream()
-                        .filter(tc -> tc.getStudentIds().contains(person.getId()))
-                        .toList();
-            }
-            return List.of();
-        };
-
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), personLookup, tuitionClassLookup);
+        // Commands change the model on a worker thread, so the panel shows a copy of the filtered person list that
+        // is brought up to date on this thread after each command, by replaying the changes the command made to it
+        PersonCardViewModelCache viewModels = new PersonCardViewModelCache(logic.getAddressBook(),
+                logic::executeAfterCommands, Platform::runLater);
+        ObservableList<Person> shownPersons = FXCollections.observableArrayList(logic.getFilteredPersonList());
+        PersonListUpdate.Recorder recorder = new PersonListUpdate.Recorder(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(shownPersons, viewModels);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        viewModels.setComputedListener(personListPanel::refreshPersons);
+        logic.setPersonsChangedListener(affectedIds -> {
+            PersonListUpdate update = recorder.capture(affectedIds, viewModels);
+            Platform.runLater(() -> {
+                update.applyTo(shownPersons, viewModels);
+                personListPanel.refreshPersons(update.getAffectedIds());
+            });
+        });
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureListener(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getNamesByPrefix);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -196,13 +187,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, showing its result once it is done.
+     * The returned future completes on the JavaFX application thread after the result is shown.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(Objects.requireNonNullElse(error.getMessage(), error.toString()));
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -213,12 +210,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
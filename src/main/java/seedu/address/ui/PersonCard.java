@@ -3,27 +3,24 @@ package seedu.address.ui;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonId;
-import seedu.address.model.person.Student;
-import seedu.address.model.person.Tutor;
-import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be bound to another person with {@link #setPerson}, so that a list cell loads its FXML only once.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final double TAG_MAX_WIDTH = 200;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -33,7 +30,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private String categoryStyleClass;
 
     @FXML
     private HBox cardPane;
@@ -59,206 +57,95 @@ public class PersonCard extends UiPart<Region> {
     private Label tuitionClass;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that is not yet bound to a person.
      */
-    public PersonCard(Person person, int displayedIndex) {
-        this(person, displayedIndex, null, null);
+    public PersonCard() {
+        super(FXML);
+    }
+
+    public Person getPerson() {
+        return person;
     }
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person}, index to display, and lookup functions.
+     * Shows {@code person} with the given index to display and resolved relationships on this card, in place of the
+     * person shown before.
      */
-    public PersonCard(Person person, int displayedIndex, Function<PersonId, Optional<Person>> personLookup,
-                      Function<Person, List<TuitionClass>> tuitionClassLookup) {
-        super(FXML);
+    public void setPerson(Person person, int displayedIndex, PersonCardViewModel viewModel) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         category.setText(person.getCategory().toString());
-        String categoryType = person.getCategory().toString().toLowerCase();
-        switch (categoryType) {
-        case "student":
-            category.getStyleClass().add("category-student");
-            break;
-        case "parent":
-            category.getStyleClass().add("category-parent");
-            break;
-        case "tutor":
-            category.getStyleClass().add("category-tutor");
-            break;
-        default:
-            category.getStyleClass().add("category-label");
-            break;
-        }
+        setCategoryStyleClass(getCategoryStyleClass(person));
 
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
+        setTags(person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    tagLabel.setMaxWidth(200);
-                    tagLabel.setWrapText(true);
-                    tags.getChildren().add(tagLabel);
-                });
-
-        // Ensure relationship rows don't take space unless shown
-        hide(parent);
-        hide(children);
-        hide(tuitionClass);
-
-        // Set up parent/children information
-        setupParentChildrenInfo(personLookup);
-
-        // Set up tuition class information
-        setupTuitionClassInfo(tuitionClassLookup);
-    }
-
-    /**
-     * Sets up the parent and children information display.
-     */
-    private void setupParentChildrenInfo(Function<PersonId, Optional<Person>> personLookup) {
-        if (personLookup == null) {
-            hide(parent);
-            hide(children);
-            return;
-        }
-        if (person instanceof Student) {
-            handleStudentRelationships((Student) person, personLookup);
-        } else if (person instanceof Parent) {
-            handleParentRelationships((Parent) person, personLookup);
-        } else {
-            // For tutors or other types
-            hide(parent);
-            hide(children);
-        }
-    }
+                .map(tag -> tag.tagName)
+                .toList());
 
-    /**
-     * Shows the student's parent if found; hides children for students.
-     *
-     * @param student the student to render relationships for
-     * @param personLookup resolves a {@link PersonId} to an optional {@link Person}
-     */
-    private void handleStudentRelationships(Student student,
-                                            Function<PersonId, Optional<Person>> personLookup) {
-        PersonId parentId = student.getParentId();
-        if (parentId != null) {
-            Optional<Person> parentPerson = personLookup.apply(parentId);
-            if (parentPerson.isPresent()) {
-                setTextAndShow(parent, "Parent: " + parentPerson.get().getName().fullName);
-            } else {
-                hide(parent);
-            }
-        } else {
-            hide(parent);
-        }
-        hide(children);
+        showIfPresent(parent, viewModel.getParentText());
+        showIfPresent(children, viewModel.getChildrenText());
+        showIfPresent(tuitionClass, viewModel.getTuitionClassText());
     }
 
-    /**
-     * Shows the parent's children list; hides the parent label for parents.
-     *
-     * @param parentPerson the parent to render relationships for
-     * @param personLookup resolves a {@link PersonId} to an optional {@link Person}
-     */
-    private void handleParentRelationships(Parent parentPerson,
-                                           Function<PersonId, Optional<Person>> personLookup) {
-        List<PersonId> childrenIds = parentPerson.getChildrenIds().stream().toList();
-        if (!childrenIds.isEmpty()) {
-            StringBuilder childrenText = new StringBuilder("Children: ");
-            for (int i = 0; i < childrenIds.size(); i++) {
-                if (i > 0) {
-                    childrenText.append(", ");
-                }
-                Optional<Person> child = personLookup.apply(childrenIds.get(i));
-                if (child.isPresent()) {
-                    childrenText.append(child.get().getName().fullName);
-                } else {
-                    childrenText.append("Unknown");
-                }
-            }
-            setTextAndShow(children, childrenText.toString());
-        } else {
-            hide(children);
+    private static String getCategoryStyleClass(Person person) {
+        String categoryType = person.getCategory().toString().toLowerCase();
+        switch (categoryType) {
+        case "student":
+            return "category-student";
+        case "parent":
+            return "category-parent";
+        case "tutor":
+            return "category-tutor";
+        default:
+            return "category-label";
         }
-        hide(parent);
     }
 
     /**
-     * Hides a {@link Label} from view and layout.
-     *
-     * @param label the label to hide
+     * Replaces the style class added for the previous person's category with {@code styleClass}.
      */
-    private void hide(Label label) {
-        label.setVisible(false);
-        label.setManaged(false);
-    }
-
-    /**
-     * Sets label text and shows it.
-     *
-     * @param label the label to show
-     * @param text the text to set
-     */
-    private void setTextAndShow(Label label, String text) {
-        label.setText(text);
-        label.setVisible(true);
-        label.setManaged(true);
-    }
-
-    /**
-     * Sets up the tuition class information display.
-     */
-    private void setupTuitionClassInfo(Function<Person, List<TuitionClass>> tuitionClassLookup) {
-        if (tuitionClassLookup == null) {
-            hide(tuitionClass);
+    private void setCategoryStyleClass(String styleClass) {
+        if (styleClass.equals(categoryStyleClass)) {
             return;
         }
-
-        if (person instanceof Student) {
-            handleStudentTuitionInfo((Student) person, tuitionClassLookup);
-        } else if (person instanceof Tutor) {
-            handleTutorTuitionInfo((Tutor) person, tuitionClassLookup);
-        } else {
-            // For parents or other types
-            hide(tuitionClass);
+        if (categoryStyleClass != null) {
+            category.getStyleClass().remove(categoryStyleClass);
         }
+        category.getStyleClass().add(styleClass);
+        categoryStyleClass = styleClass;
     }
 
     /**
-     * Shows the student's first class if any; otherwise hides the label.
-     *
-     * @param student the student to render class info for
-     * @param tuitionClassLookup resolves a {@link Person} to their classes
+     * Shows {@code tagNames} in order, reusing the labels of the previous person's tags.
      */
-    private void handleStudentTuitionInfo(Student student,
-                                          Function<Person, List<TuitionClass>> tuitionClassLookup) {
-        List<TuitionClass> studentClass = tuitionClassLookup.apply(student);
-        if (!studentClass.isEmpty()) {
-            setTextAndShow(tuitionClass, "Class: " + studentClass.get(0).toSimpleString());
-        } else {
-            hide(tuitionClass);
+    private void setTags(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                Label tagLabel = (Label) tagLabels.get(i);
+                tagLabel.setText(tagNames.get(i));
+            } else {
+                Label tagLabel = new Label(tagNames.get(i));
+                tagLabel.setMaxWidth(TAG_MAX_WIDTH);
+                tagLabel.setWrapText(true);
+                tagLabels.add(tagLabel);
+            }
         }
     }
 
     /**
-     * Shows all classes taught by the tutor, joined by comma; hides label if none.
-     *
-     * @param tutor the tutor to render class info for
-     * @param tuitionClassLookup resolves a {@link Person} to their classes
+     * Shows {@code label} with {@code text} if there is any; otherwise hides it from view and layout.
      */
-    private void handleTutorTuitionInfo(Tutor tutor,
-                                        Function<Person, List<TuitionClass>> tuitionClassLookup) {
-        List<TuitionClass> classes = tuitionClassLookup.apply(tutor);
-        if (!classes.isEmpty()) {
-            String classInfo = classes.stream()
-                    .map(TuitionClass::toSimpleString)
-                    .collect(Collectors.joining(", "));
-            setTextAndShow(tuitionClass, "Classes: " + classInfo);
-        } else {
-            hide(tuitionClass);
-        }
+    private void showIfPresent(Label label, Optional<String> text) {
+        label.setText(text.orElse(""));
+        label.setVisible(text.isPresent());
+        label.setManaged(text.isPresent());
     }
 }
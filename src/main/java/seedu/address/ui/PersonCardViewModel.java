@@ -0,0 +1,88 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+/**
+ * The relationships of a person as shown on their {@link PersonCard}, resolved from the address book ahead of
+ * rendering: the name of their parent, the names of their children and their classes.
+ * Each text is {@code Optional.empty()} if the card does not show it.
+ */
+public class PersonCardViewModel {
+
+    public static final PersonCardViewModel NO_RELATIONSHIPS =
+            new PersonCardViewModel(Optional.empty(), Optional.empty(), Optional.empty());
+
+    private final Optional<String> parentText;
+    private final Optional<String> childrenText;
+    private final Optional<String> tuitionClassText;
+
+    private PersonCardViewModel(Optional<String> parentText, Optional<String> childrenText,
+                                Optional<String> tuitionClassText) {
+        this.parentText = parentText;
+        this.childrenText = childrenText;
+        this.tuitionClassText = tuitionClassText;
+    }
+
+    /**
+     * Resolves the relationships of {@code person} in {@code addressBook}.
+     * Only looks up the persons and classes {@code person} is linked to, through the address book's indexes.
+     */
+    public static PersonCardViewModel of(Person person, ReadOnlyAddressBook addressBook) {
+        if (person instanceof Student) {
+            Student student = (Student) person;
+            Optional<String> parentText = Optional.ofNullable(student.getParentId())
+                    .flatMap(addressBook::findPersonById)
+                    .map(parent -> "Parent: " + parent.getName().fullName);
+            Optional<String> classText = student.getClassId()
+                    .flatMap(addressBook::findTuitionClass)
+                    .map(tuitionClass -> "Class: " + tuitionClass.toSimpleString());
+            return new PersonCardViewModel(parentText, Optional.empty(), classText);
+        }
+        if (person instanceof Parent) {
+            List<PersonId> childrenIds = List.copyOf(((Parent) person).getChildrenIds());
+            if (childrenIds.isEmpty()) {
+                return NO_RELATIONSHIPS;
+            }
+            String childrenNames = childrenIds.stream()
+                    .map(childId -> addressBook.findPersonById(childId)
+                            .map(child -> child.getName().fullName)
+                            .orElse("Unknown"))
+                    .collect(Collectors.joining(", "));
+            return new PersonCardViewModel(Optional.empty(), Optional.of("Children: " + childrenNames),
+                    Optional.empty());
+        }
+        if (person instanceof Tutor) {
+            List<TuitionClass> classes = addressBook.getClassesTaughtBy(person.getId());
+            if (classes.isEmpty()) {
+                return NO_RELATIONSHIPS;
+            }
+            String classNames = classes.stream()
+                    .map(TuitionClass::toSimpleString)
+                    .collect(Collectors.joining(", "));
+            return new PersonCardViewModel(Optional.empty(), Optional.empty(), Optional.of("Classes: " + classNames));
+        }
+        return NO_RELATIONSHIPS;
+    }
+
+    public Optional<String> getParentText() {
+        return parentText;
+    }
+
+    public Optional<String> getChildrenText() {
+        return childrenText;
+    }
+
+    public Optional<String> getTuitionClassText() {
+        return tuitionClassText;
+    }
+}
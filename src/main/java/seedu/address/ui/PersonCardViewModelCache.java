@@ -0,0 +1,145 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Holds the {@link PersonCardViewModel} of each person, so that rendering a card does not look up the persons and
+ * classes it is linked to again.
+ *
+ * Commands change the address book away from the JavaFX application thread, so the application thread only ever reads
+ * view models from this cache, and rendering a card never reads the address book while a command may be changing it.
+ * The view models of the persons a command affected or newly showed without one are computed on the thread that
+ * executed it with {@link #computeFor} before being swapped in on the application thread with {@link #update}.
+ * The view model of any other person is only computed once a card first asks for it: {@link #get} gives no
+ * relationships until then, and has it computed between commands, after which the cards showing it are told to
+ * render it.
+ */
+public class PersonCardViewModelCache {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Executor commandThread;
+    private final Executor applicationThread;
+    // Written on the application thread, and read by computeFor on the thread executing commands
+    private final Map<PersonId, PersonCardViewModel> viewModels = new ConcurrentHashMap<>();
+    // Only used on the application thread: the persons asked for and not yet computed, and those not yet handed over
+    private final Set<PersonId> requestedIds = new HashSet<>();
+    private Set<PersonId> pendingIds;
+    private Consumer<Set<PersonId>> computedListener = personIds -> {};
+
+    /**
+     * Creates a cache of the view models of the persons in {@code addressBook}, which holds none until they are asked
+     * for. Those asked for with {@link #get} are computed with {@code commandThread}, which must only run them while
+     * no command is changing the address book, and added with {@code applicationThread}.
+     */
+    public PersonCardViewModelCache(ReadOnlyAddressBook addressBook, Executor commandThread,
+                                    Executor applicationThread) {
+        requireAllNonNull(addressBook, commandThread, applicationThread);
+        this.addressBook = addressBook;
+        this.commandThread = commandThread;
+        this.applicationThread = applicationThread;
+    }
+
+    /**
+     * Sets the listener given the ids of the persons whose view models were computed after {@link #get} asked for
+     * them. It is called on the application thread once they have been added.
+     */
+    public void setComputedListener(Consumer<Set<PersonId>> listener) {
+        requireNonNull(listener);
+        computedListener = listener;
+    }
+
+    /**
+     * Returns the cached view model of {@code person}, or {@link PersonCardViewModel#NO_RELATIONSHIPS} if there is
+     * none yet, in which case it is computed later. Never reads the address book.
+     * Must be called on the application thread.
+     */
+    public PersonCardViewModel get(Person person) {
+        requireNonNull(person);
+        PersonCardViewModel viewModel = viewModels.get(person.getId());
+        if (viewModel != null) {
+            return viewModel;
+        }
+        if (requestedIds.add(person.getId())) {
+            request(person.getId());
+        }
+        return PersonCardViewModel.NO_RELATIONSHIPS;
+    }
+
+    /**
+     * Returns the view models of the persons with the given ids who are still in the address book, and of the persons
+     * in {@code newlyShownPersons} that this cache has none for.
+     * Must be called while no command is changing the address book; leaves this cache unchanged.
+     */
+    public Map<PersonId, PersonCardViewModel> computeFor(Set<PersonId> personIds, List<Person> newlyShownPersons) {
+        requireNonNull(personIds);
+        requireNonNull(newlyShownPersons);
+        Map<PersonId, PersonCardViewModel> computed = new HashMap<>();
+        for (PersonId personId : personIds) {
+            addressBook.findPersonById(personId)
+                    .ifPresent(person -> computed.put(personId, PersonCardViewModel.of(person, addressBook)));
+        }
+        for (Person person : newlyShownPersons) {
+            if (!viewModels.containsKey(person.getId()) && !computed.containsKey(person.getId())) {
+                computed.put(person.getId(), PersonCardViewModel.of(person, addressBook));
+            }
+        }
+        return computed;
+    }
+
+    /**
+     * Adds the view models {@code computed} by {@link #computeFor}, replacing any cached for the same persons, and
+     * forgets those of the persons with the given ids that are no longer in the address book.
+     */
+    public void update(Set<PersonId> personIds, Map<PersonId, PersonCardViewModel> computed) {
+        requireNonNull(personIds);
+        requireNonNull(computed);
+        viewModels.putAll(computed);
+        for (PersonId personId : personIds) {
+            if (!computed.containsKey(personId)) {
+                viewModels.remove(personId);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code personId} to the persons whose view models are next computed. The persons asked for while laying out
+     * the cards are gathered until the application thread is done with it, then computed together.
+     */
+    private void request(PersonId personId) {
+        boolean isFirstPending = pendingIds == null;
+        if (isFirstPending) {
+            pendingIds = new HashSet<>();
+        }
+        pendingIds.add(personId);
+        if (isFirstPending) {
+            applicationThread.execute(this::computeRequested);
+        }
+    }
+
+    private void computeRequested() {
+        Set<PersonId> personIds = Set.copyOf(pendingIds);
+        pendingIds = null;
+        commandThread.execute(() -> {
+            Map<PersonId, PersonCardViewModel> computed = computeFor(personIds, List.of());
+            applicationThread.execute(() -> {
+                viewModels.putAll(computed);
+                requestedIds.removeAll(personIds);
+                computedListener.accept(computed.keySet());
+            });
+        });
+    }
+}
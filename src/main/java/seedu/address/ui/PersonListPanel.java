@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,7 +15,6 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
-import seedu.address.model.tuitionclass.TuitionClass;
 
 /**
  * Panel containing the list of persons.
@@ -25,42 +26,54 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
-    private Function<PersonId, Optional<Person>> personLookup;
-    private Function<Person, List<TuitionClass>> tuitionClassLookup;
+    private final PersonCardViewModelCache viewModels;
+    // Weakly held, as the list view may discard cells it no longer needs
+    private final Set<PersonListViewCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing no relationships.
      */
     public PersonListPanel(ObservableList<Person> personList) {
-        this(personList, null, null);
+        this(personList, null);
     }
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList} and lookup functions.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing relationships from
+     * {@code viewModels}.
      */
-    public PersonListPanel(ObservableList<Person> personList, Function<PersonId, Optional<Person>> personLookup,
-                          Function<Person, List<TuitionClass>> tuitionClassLookup) {
+    public PersonListPanel(ObservableList<Person> personList, PersonCardViewModelCache viewModels) {
         super(FXML);
-        this.personLookup = personLookup;
-        this.tuitionClassLookup = tuitionClassLookup;
+        this.viewModels = viewModels;
         personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.setCellFactory(listView -> {
+            PersonListViewCell cell = new PersonListViewCell();
+            cells.add(cell);
+            return cell;
+        });
+    }
 
-        // Add listener to refresh all cells when any person in the list changes
-        // This ensures that relationship displays are updated in real-time
-        personList.addListener((javafx.collections.ListChangeListener<Person>) change -> {
-            while (change.next()) {
-                if (change.wasUpdated() || change.wasReplaced() || change.wasAdded()) {
-                    personListView.refresh();
-                }
+    /**
+     * Re-renders the cells showing the persons with the given ids, such as the parent of a renamed student.
+     * Cells showing other persons are left as they are; the list view itself re-renders cells whose person was
+     * added, removed or replaced.
+     */
+    public void refreshPersons(Set<PersonId> personIds) {
+        requireNonNull(personIds);
+        for (PersonListViewCell cell : cells) {
+            Person person = cell.getItem();
+            if (!cell.isEmpty() && person != null && personIds.contains(person.getId())) {
+                cell.render(person);
             }
-        });
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads one card when it first shows a person, and binds it to every person it shows after.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -69,8 +82,19 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, personLookup, tuitionClassLookup).getRoot());
+                render(person);
+            }
+        }
+
+        private void render(Person person) {
+            PersonCardViewModel viewModel = viewModels == null
+                    ? PersonCardViewModel.NO_RELATIONSHIPS
+                    : viewModels.get(person);
+            if (card == null) {
+                card = new PersonCard();
             }
+            card.setPerson(person, getIndex() + 1, viewModel);
+            setGraphic(card.getRoot());
         }
     }
 
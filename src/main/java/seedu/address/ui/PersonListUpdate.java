@@ -0,0 +1,149 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The changes a command made to the person list panel, captured on the thread that executed the command and applied
+ * on the JavaFX application thread in one batch: the changes made to the filtered person list, the ids of the persons
+ * the command affected, and the view models computed for them and for the persons newly shown without one.
+ *
+ * The changes are recorded as they are made by a {@link Recorder}, and replayed on a copy of the filtered person list,
+ * so that bringing the copy up to date takes time in proportion to what changed rather than to what is shown.
+ */
+public class PersonListUpdate {
+
+    private final List<ListChange> changes;
+    private final Set<PersonId> affectedIds;
+    private final Map<PersonId, PersonCardViewModel> viewModels;
+
+    private PersonListUpdate(List<ListChange> changes, Set<PersonId> affectedIds,
+                             Map<PersonId, PersonCardViewModel> viewModels) {
+        this.changes = changes;
+        this.affectedIds = affectedIds;
+        this.viewModels = viewModels;
+    }
+
+    public Set<PersonId> getAffectedIds() {
+        return affectedIds;
+    }
+
+    /**
+     * Swaps the captured view models into {@code viewModels}, and makes the recorded changes to {@code shown}, which
+     * must hold the persons the recorded list held before them. A person replaced by another at the same position
+     * is changed with a single set, so that list views showing {@code shown} only re-render that cell.
+     */
+    public void applyTo(ObservableList<Person> shown, PersonCardViewModelCache viewModels) {
+        requireAllNonNull(shown, viewModels);
+        viewModels.update(affectedIds, this.viewModels);
+
+        for (ListChange change : changes) {
+            change.applyTo(shown);
+        }
+    }
+
+    /**
+     * Records the changes made to a person list, on the thread making them, until they are captured in a
+     * {@code PersonListUpdate}.
+     */
+    public static class Recorder {
+
+        private List<ListChange> changes = new ArrayList<>();
+
+        /**
+         * Creates a recorder of the changes made to {@code source} from now on.
+         * Must be called while no command is changing {@code source}.
+         */
+        public Recorder(ObservableList<Person> source) {
+            requireNonNull(source);
+            source.addListener(this::record);
+        }
+
+        /**
+         * Captures the changes recorded since the last capture, and computes the view models of the persons with
+         * {@code affectedIds} and of the persons newly shown that {@code viewModels} has none for, so that the cards
+         * showing them only read from the cache.
+         * Must be called on the thread changing the recorded list, while no command is changing the address book.
+         */
+        public PersonListUpdate capture(Set<PersonId> affectedIds, PersonCardViewModelCache viewModels) {
+            requireAllNonNull(affectedIds, viewModels);
+            List<ListChange> captured = changes;
+            changes = new ArrayList<>();
+
+            List<Person> added = new ArrayList<>();
+            for (ListChange change : captured) {
+                added.addAll(change.added);
+            }
+            return new PersonListUpdate(captured, Set.copyOf(affectedIds), viewModels.computeFor(affectedIds, added));
+        }
+
+        private void record(ListChangeListener.Change<? extends Person> change) {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    continue;
+                }
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    int to = change.getTo();
+                    add(new ListChange(from, to - from, List.copyOf(change.getList().subList(from, to))));
+                    continue;
+                }
+                add(new ListChange(from, change.getRemovedSize(), List.copyOf(change.getAddedSubList())));
+            }
+        }
+
+        private void add(ListChange change) {
+            int last = changes.size() - 1;
+            if (last >= 0 && changes.get(last).isFollowedByAddAt(change)) {
+                // A person replaced in the address book is hidden and then shown again at the same position
+                changes.set(last, new ListChange(change.from, changes.get(last).removedSize, change.added));
+                return;
+            }
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Replaces the {@code removedSize} persons from position {@code from} of a list with the {@code added} persons.
+     */
+    private static class ListChange {
+
+        private final int from;
+        private final int removedSize;
+        private final List<Person> added;
+
+        ListChange(int from, int removedSize, List<Person> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        /**
+         * Returns true if this change only removes, and {@code next} only adds at the same position.
+         */
+        boolean isFollowedByAddAt(ListChange next) {
+            return added.isEmpty() && next.removedSize == 0 && next.from == from;
+        }
+
+        void applyTo(ObservableList<Person> shown) {
+            if (removedSize == 1 && added.size() == 1) {
+                shown.set(from, added.get(0));
+            } else if (from == 0 && removedSize == shown.size()) {
+                shown.setAll(added);
+            } else {
+                shown.remove(from, from + removedSize);
+                shown.addAll(from, added);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class MainAppTest {
+
+    private static final String INVALID_ADDRESS_BOOK = "{ \"persons\": [ not json";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void runWithoutGui_dataFileCannotBeLoaded_exitsWithoutRunningOrSaving() throws Exception {
+        Path addressBookFile = testFolder.resolve("addressbook.json");
+        Files.writeString(addressBookFile, INVALID_ADDRESS_BOOK);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFile);
+        Path userPrefsFile = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFile).saveUserPrefs(userPrefs);
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFile);
+        Path configFile = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFile);
+        Path commandFile = testFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of(ClearCommand.COMMAND_WORD));
+
+        assertEquals(1, MainApp.runWithoutGui(commandFile.toString(), configFile));
+        assertEquals(INVALID_ADDRESS_BOOK, Files.readString(addressBookFile));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,29 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentAndLeavesNoTempFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.json");
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_keepsOldContentAndLeavesNoTempFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Write failed");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json.tmp")));
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,32 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("alice", "alice", 0));
+        assertEquals(1, StringUtil.editDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.editDistance("alice", "allice", 2)); // insertion
+        assertEquals(1, StringUtil.editDistance("alice", "alixe", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alcie", 2)); // transposition
+        assertEquals(2, StringUtil.editDistance("alice", "alicia", 2));
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+    }
+
+    @Test
+    public void editDistance_beyondBound_returnsBoundPlusOne() {
+        assertEquals(3, StringUtil.editDistance("alice", "bob", 2));
+        assertEquals(1, StringUtil.editDistance("alice", "alicia", 0));
+        assertEquals(2, StringUtil.editDistance("abcdef", "badcfe", 1));
+    }
+
+    @Test
+    public void editDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("a", "b", -1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
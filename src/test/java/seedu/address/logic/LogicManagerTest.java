@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,7 +16,13 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +80,87 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS_ALL, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(2, logicManager.getSkippedSaveCount());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_saves() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertEquals(0, logicManager.getSkippedSaveCount());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeAsync_commands_completeOnWorkerInOrder() throws Exception {
+        CompletableFuture<CommandResult> list = logic.executeAsync(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> delete = logic.executeAsync("delete 9");
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS_ALL, list.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        Throwable error = delete.handle((result, thrown) -> thrown).get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, error.getMessage());
+        logic.shutdown();
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        AssertionError failedAssertion = new AssertionError("failed assertion");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw failedAssertion;
+            }
+        };
+        Logic failingLogic = new LogicManager(failingModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        CompletableFuture<CommandResult> list = failingLogic.executeAsync(ListCommand.COMMAND_WORD);
+        assertSame(failedAssertion, list.handle((result, thrown) -> thrown).get(5, TimeUnit.SECONDS));
+
+        // The worker is still running commands afterwards
+        CompletableFuture<CommandResult> delete = failingLogic.executeAsync("delete 9");
+        assertTrue(delete.handle((result, thrown) -> thrown).get(5, TimeUnit.SECONDS) instanceof CommandException);
+        failingLogic.shutdown();
+    }
+
+    @Test
+    public void shutdown_commandRunning_waitsForCommand() throws Exception {
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        AtomicBoolean isCommandDone = new AtomicBoolean();
+        Model slowModel = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                commandStarted.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                isCommandDone.set(true);
+            }
+        };
+        Logic slowLogic = new LogicManager(slowModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        slowLogic.executeAsync(ListCommand.COMMAND_WORD);
+        commandStarted.await(5, TimeUnit.SECONDS);
+
+        assertTrue(slowLogic.shutdown());
+        assertTrue(isCommandDone.get());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
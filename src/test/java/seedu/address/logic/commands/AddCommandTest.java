@@ -11,8 +11,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -26,12 +28,16 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Category;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.model.tuitionclass.ClassId;
 import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.testutil.PersonBuilder;
@@ -175,6 +181,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByIds(PersonIdSet personIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonsChangedListener(Consumer<Set<PersonId>> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<TuitionClass> getFilteredTuitionClassList() {
             throw new AssertionError("This method should not be called.");
@@ -211,7 +232,47 @@ public class AddCommandTest {
         }
 
         @Override
-        public Set<PersonId> getPersonIdsByCategory(Category category) {
+        public PersonIdSet getPersonIdsByCategory(Category category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> getNamesByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> getSimilarNames(Name name, Predicate<Person> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIdSet getPersonIdsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIdSet getPersonIdsByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIdSet getPersonIdsByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Set<PersonId>> getSharedPhones() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Set<PersonId>> getSharedEmails() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIdSet getPersonIdsByTags(TagQuery query) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -264,6 +325,26 @@ public class AddCommandTest {
         public void unlinkStudentFromClasses(PersonId studentId) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void linkStudentToClass(Student student, TuitionClass tuitionClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void assignTutorToClass(Tutor tutor, TuitionClass tuitionClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unassignTutorFromClass(TuitionClass tuitionClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void linkStudentToParent(Student student, Parent parent) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DuplicatesCommand}.
+ */
+public class DuplicatesCommandTest {
+
+    @Test
+    public void execute_noSharedContacts_reportsNone() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DuplicatesCommand(), model, DuplicatesCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_sharedContacts_listsPersonsSharingThem() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person carlsSibling = new PersonBuilder().withName("Carla Kurz").withPhone(CARL.getPhone().value)
+                .withEmail("ALICE@example.com").build();
+        model.addPerson(carlsSibling);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(p -> p.equals(ALICE) || p.equals(CARL) || p.equals(carlsSibling));
+        String expectedReport = String.format(DuplicatesCommand.MESSAGE_SHARED_PHONE, CARL.getPhone(),
+                "Carl Kurz, Carla Kurz")
+                + String.format(DuplicatesCommand.MESSAGE_SHARED_EMAIL, "alice@example.com",
+                "Alice Pauline, Carla Kurz");
+        assertCommandSuccess(new DuplicatesCommand(), model,
+                String.format(DuplicatesCommand.MESSAGE_SUCCESS, 3, expectedReport), expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL, carlsSibling), model.getFilteredPersonList());
+
+        // the report follows edits
+        model.setPerson(carlsSibling, new PersonBuilder(carlsSibling).withPhone("90000000")
+                .withEmail("carla@example.com").build());
+        assertEquals(DuplicatesCommand.MESSAGE_NO_DUPLICATES,
+                new DuplicatesCommand().execute(model).getFeedbackToUser());
+    }
+}
@@ -83,6 +83,8 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setPerson(model.getFilteredPersonList().get(0), editedPerson);
+        // the filter is kept, and the edited person stays in view although their new name no longer matches it
+        expectedModel.updateFilteredPersonList(editedPerson::equals);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -18,7 +20,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -76,6 +81,30 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_tagQuery_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n\n"
+                + "(To get back to the full list of contacts, run the 'list' command)";
+        TagQuery query = TagQuery.and(TagQuery.has(new Tag("friends")),
+                TagQuery.not(TagQuery.has(new Tag("owesMoney"))));
+        FindTagCommand command = new FindTagCommand(query);
+        expectedModel.updateFilteredPersonList(p -> p.getTags().contains(new Tag("friends"))
+                && !p.getTags().contains(new Tag("owesMoney")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneOrEmail_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1) + "\n\n"
+                + "(To get back to the full list of contacts, run the 'list' command)";
+        expectedModel.updateFilteredPersonList(p -> p.equals(CARL));
+        assertCommandSuccess(new FindContactCommand(CARL.getPhone()), model, expectedMessage, expectedModel);
+        assertCommandSuccess(new FindContactCommand(new Email("HEINZ@example.com")), model, expectedMessage,
+                expectedModel);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -90,6 +91,19 @@ public class GetParentCommandTest {
                 exception.getMessage());
     }
 
+    @Test
+    public void execute_misspeltStudentName_suggestsCloseStudentNames() {
+        // Daniel Meier is a parent, so only the students Benson Meier and Hoon Meier are suggested
+        GetParentCommand command = new GetParentCommand(new Name("Bensen Meyer"));
+
+        CommandException exception = assertThrows(CommandException.class, () ->
+                command.execute(model));
+
+        assertEquals(String.format(GetParentCommand.MESSAGE_STUDENT_NOT_FOUND, new Name("Bensen Meyer"))
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, "Benson Meier"),
+                exception.getMessage());
+    }
+
     @Test
     public void execute_studentWithoutParent_throwsCommandException() {
         GetParentCommand command = new GetParentCommand(new Name("Mary Jane"));
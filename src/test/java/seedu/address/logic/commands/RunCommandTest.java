@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_commandFile_runsEveryLineAndReportsFailures() throws Exception {
+        Path file = testFolder.resolve("commands.txt");
+        Files.write(file, List.of(
+                "# comment lines and blank lines are skipped",
+                "",
+                ADD_AMY,
+                "unknownCommand",
+                ADD_AMY,
+                RunCommand.COMMAND_WORD + " other.txt",
+                DeleteCommand.COMMAND_WORD + " 1"));
+
+        String feedback = new RunCommand(file, parser).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith("Ran 5 command(s) from " + file));
+        assertTrue(feedback.contains("2 succeeded, 3 failed."));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 4,
+                Messages.MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 5,
+                AddCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 6, RunCommand.MESSAGE_NESTED_RUN)));
+        assertTrue(model.hasPerson(new PersonBuilder(AMY).build()));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_lineThrowsUncheckedException_countedAsFailedLine() throws Exception {
+        Path file = testFolder.resolve("commands.txt");
+        Files.write(file, List.of("throw", ADD_AMY));
+        AddressBookParser throwingParser = new AddressBookParser() {
+            @Override
+            public Command parseCommand(String userInput) throws ParseException {
+                if (userInput.equals("throw")) {
+                    return new Command() {
+                        @Override
+                        public CommandResult execute(Model model) {
+                            throw new IllegalArgumentException("Unexpected argument");
+                        }
+                    };
+                }
+                return super.parseCommand(userInput);
+            }
+        };
+
+        String feedback = new RunCommand(file, throwingParser).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains("1 succeeded, 1 failed."));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 1, "Unexpected argument")));
+        assertTrue(model.hasPerson(new PersonBuilder(AMY).build()));
+    }
+
+    @Test
+    public void execute_invalidUtf8AfterValidLines_reportsLinesRunAndReadError() throws Exception {
+        Path file = testFolder.resolve("commands.txt");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write((ADD_AMY + "\n").getBytes(StandardCharsets.UTF_8));
+        // Enough lines that the invalid bytes are only decoded after the first lines have been run
+        int paddingLines = 5000;
+        for (int i = 0; i < paddingLines; i++) {
+            bytes.write("# padding\n".getBytes(StandardCharsets.UTF_8));
+        }
+        bytes.write(new byte[] {(byte) 0xC3, (byte) 0x28, '\n'});
+        Files.write(file, bytes.toByteArray());
+
+        String feedback = new RunCommand(file, parser).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains("1 succeeded, 0 failed."));
+        assertTrue(feedback.contains("could not be read"));
+        assertTrue(model.hasPerson(new PersonBuilder(AMY).build()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(file, parser).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), parser);
+
+        // same path -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"), new AddressBookParser())));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"), parser)));
+    }
+}
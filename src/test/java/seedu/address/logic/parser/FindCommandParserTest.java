@@ -9,7 +9,13 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindContactCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 
 public class FindCommandParserTest {
 
@@ -31,4 +37,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tagQuery_returnsFindTagCommand() {
+        FindTagCommand expectedFindTagCommand = new FindTagCommand(
+                TagQuery.and(TagQuery.has(new Tag("math")), TagQuery.not(TagQuery.has(new Tag("inactive")))));
+        assertParseSuccess(parser, " t/math AND NOT inactive ", expectedFindTagCommand);
+        assertParseSuccess(parser, "t/ math AND NOT inactive", expectedFindTagCommand);
+    }
+
+    @Test
+    public void parse_phoneOrEmail_returnsFindContactCommand() {
+        assertParseSuccess(parser, " p/91234567 ", new FindContactCommand(new Phone("91234567")));
+        assertParseSuccess(parser, "p/9123 4567", new FindContactCommand(new Phone("91234567")));
+        assertParseSuccess(parser, "e/ alice@example.com", new FindContactCommand(new Email("alice@example.com")));
+        assertParseFailure(parser, "p/12", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "e/alice", Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidTagQuery_throwsParseException() {
+        assertParseFailure(parser, "t/math OR", TagQueryParser.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final RunCommandParser parser = new RunCommandParser(addressBookParser);
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " commands.txt", new RunCommand(Paths.get("commands.txt"), addressBookParser));
+
+        // leading and trailing spaces, and spaces within the path
+        assertParseSuccess(parser, "   new term/commands.txt  ",
+                new RunCommand(Paths.get("new term/commands.txt"), addressBookParser));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+public class TagQueryParserTest {
+
+    private static final TagQuery MATH = TagQuery.has(new Tag("math"));
+    private static final TagQuery SEC3 = TagQuery.has(new Tag("sec3"));
+    private static final TagQuery SEC4 = TagQuery.has(new Tag("sec4"));
+
+    @Test
+    public void parse_singleTag() throws Exception {
+        assertEquals(MATH, TagQueryParser.parse("  math "));
+    }
+
+    @Test
+    public void parse_notBindsTighterThanAndThanOr() throws Exception {
+        assertEquals(TagQuery.or(MATH, TagQuery.and(SEC3, TagQuery.not(SEC4))),
+                TagQueryParser.parse("math OR sec3 AND NOT sec4"));
+        assertEquals(TagQuery.and(TagQuery.and(MATH, SEC3), SEC4), TagQueryParser.parse("math AND sec3 AND sec4"));
+    }
+
+    @Test
+    public void parse_parentheses() throws Exception {
+        assertEquals(TagQuery.and(MATH, TagQuery.or(SEC3, SEC4)), TagQueryParser.parse("math AND (sec3 OR sec4)"));
+        assertEquals(TagQuery.not(TagQuery.or(SEC3, SEC4)), TagQueryParser.parse("NOT(sec3 OR sec4)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse(""));
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("math sec3"));
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("math AND"));
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("AND math"));
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("(math"));
+        assertThrows(ParseException.class, TagQueryParser.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("math)"));
+    }
+}
@@ -13,13 +13,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
 import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.testutil.PersonBuilder;
 
@@ -55,6 +60,30 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void setTuitionClass_classWithLinks_keepsLinksOfEditedClass() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Student otherStudent = (Student) new PersonBuilder().withCategory("student").withName("Other Student")
+                .build();
+        Tutor tutor = (Tutor) new PersonBuilder().withCategory("tutor").withName("Some Tutor").build();
+        TuitionClass monday = new TuitionClass(Day.MONDAY, Time.H12);
+        addressBook.addStudent(student);
+        addressBook.addStudent(otherStudent);
+        addressBook.addTutor(tutor);
+        addressBook.addTuitionClass(monday);
+        addressBook.linkStudentToClass(student, monday);
+        addressBook.linkStudentToClass(otherStudent, monday);
+        addressBook.assignTutorToClass(tutor, monday);
+
+        otherStudent.clearTuitionClass();
+        TuitionClass editedMonday = new TuitionClass(Day.MONDAY, Time.H12, tutor.getId(),
+                Set.of(student.getId()));
+        addressBook.setTuitionClass(monday, editedMonday);
+
+        assertEquals(List.of(student), addressBook.getStudentsInClass(monday.getClassId()));
+        assertEquals(List.of(editedMonday), addressBook.getClassesTaughtBy(tutor.getId()));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
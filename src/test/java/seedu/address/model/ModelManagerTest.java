@@ -2,21 +2,36 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonIdSet;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +103,135 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void deletePerson_parentWithSeveralChildren_unlinksEveryChild() {
+        Student first = (Student) new PersonBuilder().withCategory("student").withName("First Child").build();
+        Student second = (Student) new PersonBuilder().withCategory("student").withName("Second Child").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        modelManager.addPerson(first);
+        modelManager.addPerson(second);
+        modelManager.addPerson(parent);
+        modelManager.linkStudentToParent(first, parent);
+        modelManager.linkStudentToParent(second, parent);
+
+        modelManager.deletePerson(parent);
+
+        assertNull(first.getParentId());
+        assertNull(second.getParentId());
+    }
+
+    @Test
+    public void deletePerson_tutorAndStudent_unlinksFromClasses() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Tutor tutor = (Tutor) new PersonBuilder().withCategory("tutor").withName("Some Tutor").build();
+        TuitionClass wednesday = new TuitionClass(Day.WEDNESDAY, Time.H14);
+        TuitionClass monday = new TuitionClass(Day.MONDAY, Time.H12);
+        modelManager.addPerson(student);
+        modelManager.addPerson(tutor);
+        modelManager.addTuitionClass(wednesday);
+        modelManager.addTuitionClass(monday);
+        modelManager.linkStudentToClass(student, monday);
+        modelManager.assignTutorToClass(tutor, wednesday);
+        modelManager.assignTutorToClass(tutor, monday);
+
+        assertEquals(List.of(monday, wednesday), modelManager.getClassesByTutor(tutor));
+        assertEquals(List.of(student), modelManager.getStudentsInClass(monday));
+
+        modelManager.deletePerson(student);
+        modelManager.deletePerson(tutor);
+
+        assertTrue(monday.getStudentIds().isEmpty());
+        assertNull(monday.getTutorId());
+        assertNull(wednesday.getTutorId());
+        assertEquals(List.of(), modelManager.getClassesByTutor(tutor));
+    }
+
+    @Test
+    public void getFilteredPersonList_changesWhileFiltered_filterKept() {
+        ModelManager modelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(ALICE::equals);
+
+        // added persons are shown although they do not match the filter
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        modelManager.addPerson(carl);
+        assertEquals(List.of(ALICE, carl), modelManager.getFilteredPersonList());
+
+        // shown persons stay shown when edited, hidden persons stay hidden
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("88888888").build());
+        assertEquals(List.of(editedAlice, carl), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(carl);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+
+        // a new filter forgets the persons kept in view
+        modelManager.updateFilteredPersonList(ALICE::equals);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setAddressBook_singlePersonReplaced_showsNewPerson() {
+        ModelManager modelManager = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByIds_someIds_showsThosePersonsInListOrder() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder()
+                .withPerson(CARL).withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        modelManager.updateFilteredPersonListByIds(
+                new PersonIdSet(List.of(ALICE.getId(), CARL.getId(), PersonId.newId())));
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredPersonList());
+
+        // the filter is kept as the address book changes
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        modelManager.setPerson(CARL, editedCarl);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("88888888").build());
+        modelManager.deletePerson(ALICE);
+        Person daniel = new PersonBuilder().withName("Daniel Lim").build();
+        modelManager.addPerson(daniel);
+        assertEquals(List.of(editedCarl, daniel), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void publishChanges_renamedStudentOrNewFilter_notifiesOnce() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        Person other = new PersonBuilder().withCategory("student").withName("Other Student").build();
+        modelManager.addPerson(student);
+        modelManager.addPerson(parent);
+        modelManager.addPerson(other);
+        modelManager.linkStudentToParent(student, parent);
+        List<Set<PersonId>> published = new ArrayList<>();
+        modelManager.setPersonsChangedListener(published::add);
+        modelManager.publishChanges();
+        published.clear();
+
+        // no changes -> not notified
+        modelManager.publishChanges();
+        assertTrue(published.isEmpty());
+
+        // renamed student -> their parent, whose card shows the name, is notified too
+        Person renamed = new PersonBuilder(student).withName("Renamed Student").build();
+        modelManager.setPerson(student, renamed);
+        modelManager.publishChanges();
+        assertEquals(List.of(Set.of(student.getId(), parent.getId())), published);
+
+        // only the persons shown changed -> notified with no affected persons
+        published.clear();
+        modelManager.updateFilteredPersonList(other::equals);
+        modelManager.publishChanges();
+        assertEquals(List.of(Set.of()), published);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
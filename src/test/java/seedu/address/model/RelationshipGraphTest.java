@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.ClassId;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class RelationshipGraphTest {
+
+    private static final ClassId MONDAY_NOON = new ClassId(Day.MONDAY, Time.H12);
+    private static final ClassId FRIDAY_FOUR = new ClassId(Day.FRIDAY, Time.H16);
+
+    private final RelationshipGraph graph = new RelationshipGraph();
+    private final PersonId student = PersonId.newId();
+    private final PersonId otherStudent = PersonId.newId();
+    private final PersonId tutor = PersonId.newId();
+    private final PersonId parent = PersonId.newId();
+
+    @Test
+    public void linkStudentToClass_studentAlreadyInClass_movesStudent() {
+        graph.linkStudentToClass(student, MONDAY_NOON);
+        graph.linkStudentToClass(student, FRIDAY_FOUR);
+
+        assertEquals(Optional.of(FRIDAY_FOUR), graph.getClassOf(student));
+        assertTrue(graph.getStudentsIn(MONDAY_NOON).isEmpty());
+        assertEquals(Set.of(student), graph.getStudentsIn(FRIDAY_FOUR));
+    }
+
+    @Test
+    public void getStudentsIn_noStudents_returnsUnmodifiableSet() {
+        assertThrows(UnsupportedOperationException.class, () -> graph.getStudentsIn(MONDAY_NOON).add(student));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getChildrenOf(parent).add(student));
+        assertTrue(graph.getStudentsIn(MONDAY_NOON).isEmpty());
+    }
+
+    @Test
+    public void getStudentsIn_someStudents_returnsUnmodifiableSet() {
+        graph.linkStudentToClass(student, MONDAY_NOON);
+        graph.linkChildToParent(student, parent);
+        assertThrows(UnsupportedOperationException.class, () -> graph.getStudentsIn(MONDAY_NOON).add(otherStudent));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getChildrenOf(parent).remove(student));
+        assertEquals(Set.of(student), graph.getStudentsIn(MONDAY_NOON));
+        assertEquals(Set.of(student), graph.getChildrenOf(parent));
+    }
+
+    @Test
+    public void assignTutor_classAlreadyHasTutor_replacesTutor() {
+        PersonId otherTutor = PersonId.newId();
+        graph.assignTutor(MONDAY_NOON, tutor);
+        graph.assignTutor(MONDAY_NOON, otherTutor);
+
+        assertEquals(Optional.of(otherTutor), graph.getTutorOf(MONDAY_NOON));
+        assertTrue(graph.getClassesTaughtBy(tutor).isEmpty());
+        assertEquals(Set.of(MONDAY_NOON), graph.getClassesTaughtBy(otherTutor));
+    }
+
+    @Test
+    public void removePerson_removesEdgesInBothDirections() {
+        graph.linkStudentToClass(student, MONDAY_NOON);
+        graph.linkStudentToClass(otherStudent, MONDAY_NOON);
+        graph.assignTutor(MONDAY_NOON, tutor);
+        graph.assignTutor(FRIDAY_FOUR, tutor);
+        graph.linkChildToParent(student, parent);
+        graph.linkChildToParent(otherStudent, parent);
+
+        graph.removePerson(tutor);
+        assertTrue(graph.getTutorOf(MONDAY_NOON).isEmpty());
+        assertTrue(graph.getTutorOf(FRIDAY_FOUR).isEmpty());
+
+        graph.removePerson(parent);
+        assertTrue(graph.getParentOf(student).isEmpty());
+        assertTrue(graph.getParentOf(otherStudent).isEmpty());
+
+        graph.removePerson(student);
+        assertTrue(graph.getClassOf(student).isEmpty());
+        assertEquals(Set.of(otherStudent), graph.getStudentsIn(MONDAY_NOON));
+    }
+
+    @Test
+    public void rebuild_indexesRelationshipFieldsOfEntities() {
+        Student studentEntity = (Student) new PersonBuilder().withCategory("student").withName("Student One")
+                .withId(student).build();
+        Parent parentEntity = (Parent) new PersonBuilder().withCategory("parent").withName("Parent One")
+                .withId(parent).build();
+        parentEntity.addChildId(student);
+        TuitionClass tuitionClass = new TuitionClass(Day.MONDAY, Time.H12, tutor, Set.of(student));
+
+        graph.linkStudentToClass(otherStudent, FRIDAY_FOUR);
+        graph.rebuild(List.of(studentEntity, parentEntity), List.of(tuitionClass));
+
+        assertTrue(graph.getClassOf(otherStudent).isEmpty());
+        assertEquals(Optional.of(MONDAY_NOON), graph.getClassOf(student));
+        assertEquals(Optional.of(tutor), graph.getTutorOf(MONDAY_NOON));
+        assertEquals(Set.of(student), graph.getChildrenOf(parent));
+        assertEquals(Optional.of(parent), graph.getParentOf(student));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,13 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void toKey() {
+        assertEquals("peter jack", new Name("Peter  Jack ").toKey());
+        assertEquals(new Name("peter jack").toKey(), new Name("PETER JACK").toKey());
+        assertFalse(new Name("Peter Jack").toKey().equals(new Name("Peter Jacks").toKey()));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdSetTest {
+
+    private final PersonId first = PersonId.newId();
+    private final PersonId second = PersonId.newId();
+    private final PersonId third = PersonId.newId();
+
+    @Test
+    public void add_anyOrder_iteratesInHandleOrder() {
+        PersonIdSet set = new PersonIdSet();
+        assertTrue(set.add(third));
+        assertTrue(set.add(first));
+        assertTrue(set.add(second));
+        assertFalse(set.add(first));
+
+        List<PersonId> inHandleOrder = Stream.of(first, second, third)
+                .sorted(Comparator.comparingInt(PersonId::getHandle)).toList();
+        assertEquals(3, set.size());
+        assertEquals(inHandleOrder, List.copyOf(set));
+        assertEquals(inHandleOrder.get(1), set.get(1));
+    }
+
+    @Test
+    public void contains() {
+        PersonIdSet set = new PersonIdSet(List.of(first, third));
+        assertTrue(set.contains(first));
+        assertTrue(set.contains(PersonId.of(third.getValue())));
+        assertFalse(set.contains(second));
+        assertFalse(set.contains("not an id"));
+    }
+
+    @Test
+    public void remove() {
+        PersonIdSet set = new PersonIdSet(List.of(first, second, third));
+        assertTrue(set.remove(second));
+        assertFalse(set.remove(second));
+        assertEquals(Set.of(first, third), set);
+
+        Iterator<PersonId> iterator = set.iterator();
+        PersonId removed = iterator.next();
+        iterator.remove();
+        assertEquals(1, set.size());
+        assertFalse(set.contains(removed));
+
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void equals_otherSetWithSameIds_returnsTrue() {
+        assertEquals(Set.of(first, second), new PersonIdSet(List.of(second, first)));
+        assertEquals(new PersonIdSet(List.of(second, first)), Set.of(first, second));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        PersonIdSet set = new PersonIdSet(List.of(first));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(-1));
+    }
+
+    @Test
+    public void empty_modify_throwsUnsupportedOperationException() {
+        PersonIdSet empty = PersonIdSet.empty();
+        assertThrows(UnsupportedOperationException.class, () -> empty.add(first));
+        assertThrows(UnsupportedOperationException.class, () -> empty.remove(first));
+        assertThrows(UnsupportedOperationException.class, () -> empty.clear());
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiable_modify_throwsUnsupportedOperationException() {
+        PersonIdSet set = new PersonIdSet(List.of(first));
+        PersonIdSet view = set.asUnmodifiable();
+        assertThrows(UnsupportedOperationException.class, () -> view.add(second));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(first));
+        Iterator<PersonId> iterator = view.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(Set.of(first), set);
+    }
+
+    @Test
+    public void asUnmodifiable_setChanged_showsChanges() {
+        PersonIdSet set = new PersonIdSet(List.of(first));
+        PersonIdSet view = set.asUnmodifiable();
+        set.add(second);
+        assertEquals(Set.of(first, second), view);
+        assertSame(view, set.asUnmodifiable());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonId.of(null));
+    }
+
+    @Test
+    public void of_canonicalUuid_storedAsBits() {
+        UUID uuid = UUID.randomUUID();
+        PersonId id = PersonId.of(uuid.toString());
+
+        assertTrue(id.isUuid());
+        assertEquals(uuid.getMostSignificantBits(), id.getMostSignificantBits());
+        assertEquals(uuid.getLeastSignificantBits(), id.getLeastSignificantBits());
+        assertEquals(uuid.toString(), id.getValue());
+        assertEquals(PersonId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()), id);
+    }
+
+    @Test
+    public void of_nonCanonicalValue_keptAsString() {
+        // not a UUID
+        assertFalse(PersonId.of("7g7g7g7g-7g7g-7g7g-7g7g-7g7g7g7g7g7g").isUuid());
+        assertEquals("7g7g7g7g-7g7g-7g7g-7g7g-7g7g7g7g7g7g",
+                PersonId.of("7g7g7g7g-7g7g-7g7g-7g7g-7g7g7g7g7g7g").getValue());
+
+        // uppercase and short forms of UUIDs are not canonical, so they are written back unchanged
+        String uppercase = UUID.randomUUID().toString().toUpperCase();
+        assertFalse(PersonId.of(uppercase).isUuid());
+        assertEquals(uppercase, PersonId.of(uppercase).getValue());
+        assertEquals("1-1-1-1-1", PersonId.of("1-1-1-1-1").getValue());
+        assertEquals("", PersonId.of("").getValue());
+    }
+
+    @Test
+    public void newId_isUuid() {
+        PersonId id = PersonId.newId();
+        assertTrue(id.isUuid());
+        assertEquals(id, PersonId.of(id.getValue()));
+        assertNotEquals(id, PersonId.newId());
+    }
+
+    @Test
+    public void of_sameValue_sameInstanceAndHandle() {
+        PersonId id = PersonId.newId();
+        PersonId other = PersonId.newId();
+
+        assertTrue(id == PersonId.of(id.getValue()));
+        assertTrue(id == PersonId.of(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        assertNotEquals(id.getHandle(), other.getHandle());
+    }
+
+    @Test
+    public void of_unreferencedId_notKeptByInternTable() throws Exception {
+        WeakReference<PersonId> reference = new WeakReference<>(PersonId.of("not-referenced-anywhere-else"));
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void equals() {
+        String value = "0123abcd-4567-89ef-0123-456789abcdef";
+        PersonId id = PersonId.of(value);
+
+        // same values -> returns true
+        assertEquals(id, PersonId.of(value));
+        assertEquals(id.hashCode(), PersonId.of(value).hashCode());
+
+        // same object -> returns true
+        assertEquals(id, id);
+
+        // null -> returns false
+        assertNotEquals(null, id);
+
+        // different bits -> returns false
+        assertNotEquals(id, PersonId.of("0123abcd-4567-89ef-0123-456789abcdee"));
+
+        // UUID and non-UUID with the same bits -> returns false
+        assertNotEquals(PersonId.of(0, 0), PersonId.of("zero"));
+    }
+}
@@ -107,6 +107,24 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getEmail_lazyDetails_loadedOnceOnFirstUse() {
+        int[] loads = new int[1];
+        Person person = PersonFactory.createPerson(ALICE.getId(), ALICE.getCategory(), ALICE.getName(),
+                ALICE.getPhone(), () -> {
+                    loads[0]++;
+                    return new PersonDetails(ALICE.getEmail(), ALICE.getAddress(), ALICE.getTags());
+                });
+        assertFalse(person.isDetailsLoaded());
+        assertEquals(0, loads[0]);
+
+        assertEquals(ALICE.getEmail(), person.getEmail());
+        assertEquals(ALICE.getTags(), person.getTags());
+        assertTrue(person.isDetailsLoaded());
+        assertEquals(1, loads[0]);
+        assertEquals(ALICE, person);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = ALICE.getClass().getCanonicalName() + "{id=" + ALICE.getId() + ", category="
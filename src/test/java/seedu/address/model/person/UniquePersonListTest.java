@@ -4,19 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -58,6 +68,13 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithSameId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceId = new PersonBuilder(BOB).withId(ALICE.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(bobWithAliceId));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +144,40 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithOtherId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(new PersonBuilder(BENSON).withId(PersonId.newId()).build());
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_equalTargetWithOtherId_replacesPersonInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone(VALID_PHONE_AMY).build();
+        uniquePersonList.setPerson(new PersonBuilder(BENSON).withId(PersonId.newId()).build(), editedBenson);
+
+        assertEquals(List.of(ALICE, editedBenson, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(ALICE, editedBenson, CARL),
+                uniquePersonList.findByIds(List.of(CARL.getId(), BENSON.getId(), ALICE.getId())));
+    }
+
+    @Test
+    public void setPerson_afterRemovals_replacesPersonInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BENSON);
+        Person editedCarl = new PersonBuilder(CARL).withPhone(VALID_PHONE_AMY).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(ALICE, editedCarl, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +213,205 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithPersonsSharingId_throwsDuplicatePersonException() {
+        Person bobWithAliceId = new PersonBuilder(BOB).withId(ALICE.getId()).build();
+        List<Person> listSharingId = Arrays.asList(ALICE, bobWithAliceId);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listSharingId));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasIdOfOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withId(BOB.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void findByNameKeywords_keptInStepWithList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findByNameKeywords(List.of("aLiCe")));
+        assertEquals(Set.of(ALICE.getId(), BOB.getId()),
+                uniquePersonList.findByNameKeywords(List.of("pauline", "Choo", "unknown")));
+        assertEquals(Set.of(), uniquePersonList.findByNameKeywords(List.of("Ali")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Set.of(), uniquePersonList.findByNameKeywords(List.of("pauline")));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findByNameKeywords(List.of("tan")));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(), uniquePersonList.findByNameKeywords(List.of("choo")));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(Set.of(), uniquePersonList.findByNameKeywords(List.of("tan")));
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findByNameKeywords(List.of("bob")));
+    }
+
+    @Test
+    public void findNamesByPrefix_keptInStepWithList() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of(ALICE.getName()), uniquePersonList.findNamesByPrefix("aLi", 10));
+        assertEquals(List.of(ALICE.getName()), uniquePersonList.findNamesByPrefix("  alice   pau", 10));
+        assertEquals(List.of(ALICE.getName(), BOB.getName()), uniquePersonList.findNamesByPrefix("", 10));
+        assertEquals(List.of(ALICE.getName()), uniquePersonList.findNamesByPrefix("", 1));
+        assertEquals(List.of(), uniquePersonList.findNamesByPrefix("pauline", 10));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Bobby Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(), uniquePersonList.findNamesByPrefix("ali", 10));
+        assertEquals(List.of(BOB.getName(), renamedAlice.getName()), uniquePersonList.findNamesByPrefix("bob", 10));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(renamedAlice.getName()), uniquePersonList.findNamesByPrefix("bob", 10));
+    }
+
+    @Test
+    public void findSimilarNames_keptInStepWithList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(List.of(ALICE.getName()),
+                uniquePersonList.findSimilarNames(new Name("Alcie Pualine"), p -> true, 3));
+        assertEquals(List.of(), uniquePersonList.findSimilarNames(new Name("Alcie Pualine"), p -> false, 3));
+        assertEquals(List.of(), uniquePersonList.findSimilarNames(new Name("Charlotte Oliveiro"), p -> true, 3));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Bob Chew").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(), uniquePersonList.findSimilarNames(new Name("Alice Pauline"), p -> true, 3));
+        // closest first
+        assertEquals(List.of(BOB.getName(), renamedAlice.getName()),
+                uniquePersonList.findSimilarNames(new Name("Bob Choe"), p -> true, 3));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(renamedAlice.getName()),
+                uniquePersonList.findSimilarNames(new Name("Bob Choe"), p -> true, 3));
+    }
+
+    @Test
+    public void findByTags_keptInStepWithList() {
+        TagQuery friend = TagQuery.has(new Tag(VALID_TAG_FRIEND));
+        TagQuery friendNotHusband = TagQuery.and(friend, TagQuery.not(TagQuery.has(new Tag(VALID_TAG_HUSBAND))));
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findByTags(friend));
+
+        // edits after the index is built are reflected
+        Person friendlyAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_FRIEND).build();
+        uniquePersonList.setPerson(ALICE, friendlyAlice);
+        assertEquals(Set.of(ALICE.getId(), BOB.getId()), uniquePersonList.findByTags(friend));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findByTags(friendNotHusband));
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findByTags(TagQuery.not(friendNotHusband)));
+
+        uniquePersonList.remove(friendlyAlice);
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findByTags(friend));
+
+        // a person added after a removal does not inherit the tags of the removed person
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findByTags(friend));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findByTags(TagQuery.not(friend)));
+
+        // replacing the list replaces the index
+        uniquePersonList.setPersons(List.of(friendlyAlice));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findByTags(friend));
+    }
+
+    @Test
+    public void listOrder_afterChanges_ordersAsList() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withPhone(VALID_PHONE_AMY).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        List<Person> sorted = new ArrayList<>(List.of(ALICE, editedBob));
+        sorted.sort(uniquePersonList.listOrder());
+        assertEquals(List.of(editedBob, ALICE), sorted);
+
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        sorted = new ArrayList<>(List.of(BOB, ALICE));
+        sorted.sort(uniquePersonList.listOrder());
+        assertEquals(List.of(ALICE, BOB), sorted);
+    }
+
+    @Test
+    public void findByIds_idsInAnyOrder_returnsPersonsInListOrder() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withPhone(VALID_PHONE_AMY).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        assertEquals(List.of(editedBob, ALICE),
+                uniquePersonList.findByIds(List.of(ALICE.getId(), PersonId.newId(), BOB.getId())));
+
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.findByIds(List.of(BOB.getId(), ALICE.getId())));
+    }
+
+    @Test
+    public void findById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findById(null));
+    }
+
+    @Test
+    public void findById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void findById_afterSetPersonWithNewId_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withId(PersonId.newId()).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findById(editedAlice.getId()));
+    }
+
+    @Test
+    public void findById_afterRemove_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void findById_afterSetPersons_reflectsReplacementList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void findByName_differentCaseAndSpacing_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name query = new Name(ALICE.getName().fullName.toUpperCase().replace(" ", "   "));
+        assertEquals(List.of(ALICE), uniquePersonList.findByName(query));
+        assertEquals(List.of(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByName_afterSetPersonWithNewName_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(List.of(editedAlice), uniquePersonList.findByName(editedAlice.getName()));
+        assertTrue(uniquePersonList.contains(editedAlice));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findByName_afterRemove_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(), uniquePersonList.findByName(ALICE.getName()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
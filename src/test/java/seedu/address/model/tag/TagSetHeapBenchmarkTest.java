@@ -0,0 +1,68 @@
+package seedu.address.model.tag;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+
+/**
+ * Measures the heap retained by the tags and addresses of many persons, with and without interning them and keeping
+ * the tags in a {@link TagSet}. Run by hand, with nothing else running in the JVM, as the figures come from the heap in
+ * use after garbage collection.
+ */
+@Disabled("Benchmark, run by hand")
+public class TagSetHeapBenchmarkTest {
+
+    private static final int PERSONS = 200_000;
+    private static final String[] TAG_NAMES = {"friends", "owesMoney", "colleagues", "neighbours", "family", "vip"};
+
+    @Test
+    public void retainedHeap_perPerson() throws Exception {
+        long plain = measure(false);
+        long interned = measure(true);
+        System.out.printf("Tags and address, plain: %d bytes/person%n", plain / PERSONS);
+        System.out.printf("Tags and address, interned in a TagSet: %d bytes/person%n", interned / PERSONS);
+    }
+
+    /**
+     * Returns the heap retained by the tags and addresses of {@link #PERSONS} persons, each with up to three tags and
+     * an address shared with one other person, as for siblings.
+     */
+    private static long measure(boolean isInterned) throws Exception {
+        Random random = new Random(42);
+        Object[] tagSets = new Object[PERSONS];
+        Address[] addresses = new Address[PERSONS];
+        long before = usedHeap();
+        for (int i = 0; i < PERSONS; i++) {
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = random.nextInt(4);
+            for (int j = 0; j < tagCount; j++) {
+                // A new string each time, as when read from storage
+                String tagName = new String(TAG_NAMES[random.nextInt(TAG_NAMES.length)]);
+                tags.add(isInterned ? Tag.of(tagName) : new Tag(tagName));
+            }
+            String address = "Blk " + (i / 2) + " Clementi Ave 3, #02-25";
+            tagSets[i] = isInterned ? TagSet.of(tags) : Collections.unmodifiableSet(tags);
+            addresses[i] = isInterned ? Address.of(address) : new Address(address);
+        }
+        long after = usedHeap();
+        if (tagSets[PERSONS - 1] == null || addresses[PERSONS - 1] == null) {
+            throw new AssertionError();
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag MATH = new Tag("math");
+    private static final Tag SCIENCE = new Tag("science");
+    private static final Tag SEC3 = new Tag("sec3");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        List<Tag> tagsWithNull = new ArrayList<>();
+        tagsWithNull.add(null);
+        assertThrows(NullPointerException.class, () -> TagSet.of(tagsWithNull));
+    }
+
+    @Test
+    public void of_duplicatesInAnyOrder_sortedWithoutDuplicates() {
+        TagSet tags = TagSet.of(List.of(SEC3, MATH, new Tag("sec3"), SCIENCE));
+
+        assertEquals(3, tags.size());
+        assertEquals(List.of(MATH, SCIENCE, SEC3), List.copyOf(tags));
+        assertEquals(Set.of(MATH, SCIENCE, SEC3), tags);
+        assertEquals(Set.of(MATH, SCIENCE, SEC3).hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void of_empty_sharedInstance() {
+        assertSame(TagSet.of(List.of()), TagSet.of(Set.of()));
+        assertTrue(TagSet.of(List.of()).isEmpty());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(List.of(MATH, SEC3));
+        assertTrue(tags.contains(new Tag("math")));
+        assertFalse(tags.contains(SCIENCE));
+        assertFalse(tags.contains("math"));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(MATH));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(SCIENCE));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(SCIENCE));
+        assertThrows(UnsupportedOperationException.class, () -> tags.addAll(List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_sameInstance() {
+        Tag tag = Tag.of(new String("sec3"));
+        assertSame(tag, Tag.of(new String("sec3")));
+        assertEquals(new Tag("sec3"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(" "));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
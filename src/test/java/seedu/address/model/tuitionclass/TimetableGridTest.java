@@ -0,0 +1,68 @@
+package seedu.address.model.tuitionclass;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tuitionclass.exceptions.DuplicateTuitionClassException;
+
+public class TimetableGridTest {
+
+    private final TimetableGrid grid = new TimetableGrid();
+
+    @Test
+    public void constructor_nonPositiveRooms_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimetableGrid(0));
+    }
+
+    @Test
+    public void get_emptySlot_returnsEmpty() {
+        assertEquals(Optional.empty(), grid.get(new ClassId(Day.MONDAY, Time.H12)));
+    }
+
+    @Test
+    public void put_thenGet_returnsClassInSlotOnly() {
+        TuitionClass sunday = new TuitionClass(Day.SUNDAY, Time.H20);
+        grid.put(sunday);
+        assertEquals(Optional.of(sunday), grid.get(new ClassId(Day.SUNDAY, Time.H20)));
+        assertEquals(Optional.empty(), grid.get(new ClassId(Day.SUNDAY, Time.H18)));
+    }
+
+    @Test
+    public void put_slotFull_throwsDuplicateTuitionClassException() {
+        grid.put(new TuitionClass(Day.MONDAY, Time.H12));
+        assertThrows(DuplicateTuitionClassException.class, () -> grid.put(new TuitionClass(Day.MONDAY, Time.H12)));
+    }
+
+    @Test
+    public void put_severalRooms_fillsRoomsInTurn() {
+        TimetableGrid twoRoomGrid = new TimetableGrid(2);
+        TuitionClass first = new TuitionClass(Day.MONDAY, Time.H12);
+        twoRoomGrid.put(first);
+        twoRoomGrid.put(new TuitionClass(Day.MONDAY, Time.H12));
+        assertThrows(DuplicateTuitionClassException.class, () ->
+                twoRoomGrid.put(new TuitionClass(Day.MONDAY, Time.H12)));
+
+        // a removed class frees its room
+        twoRoomGrid.remove(first);
+        twoRoomGrid.put(new TuitionClass(Day.MONDAY, Time.H12));
+    }
+
+    @Test
+    public void remove_thenClear_emptiesSlots() {
+        TuitionClass monday = new TuitionClass(Day.MONDAY, Time.H12);
+        TuitionClass friday = new TuitionClass(Day.FRIDAY, Time.H16);
+        grid.put(monday);
+        grid.put(friday);
+
+        grid.remove(monday);
+        assertEquals(Optional.empty(), grid.get(monday.getClassId()));
+        assertEquals(Optional.of(friday), grid.get(friday.getClassId()));
+
+        grid.clear();
+        assertEquals(Optional.empty(), grid.get(friday.getClassId()));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.getLinkedAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("ab");
+        assertTrue(AddressBookFormatConverter.createStorage(AddressBookFormat.JSON, filePath)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(AddressBookFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(AddressBookFormat.MAPPED, filePath)
+                instanceof MappedAddressBookStorage);
+    }
+
+    @Test
+    public void detectFormat() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        assertEquals(Optional.empty(), AddressBookFormatConverter.detectFormat(filePath));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormatConverter.detectFormat(filePath));
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+
+        new MappedAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        assertEquals(Optional.of(AddressBookFormat.MAPPED), AddressBookFormatConverter.detectFormat(filePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        AddressBook original = getLinkedAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] originalJson = Files.readAllBytes(filePath);
+
+        AddressBookFormatConverter.convert(filePath, AddressBookFormat.BINARY);
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(filePath, AddressBookFormat.JSON);
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(new String(originalJson), Files.readString(filePath));
+    }
+
+    @Test
+    public void convert_binaryToMapped_lossless() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        AddressBook original = getLinkedAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(filePath, AddressBookFormat.MAPPED);
+
+        assertEquals(Optional.of(AddressBookFormat.MAPPED), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new MappedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_journalledJson_includesJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        AddressBook original = getLinkedAddressBook();
+        JournaledAddressBookStorage journaled = new JournaledAddressBookStorage(filePath);
+        journaled.saveAddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        journaled.saveAddressBook(original);
+        assertTrue(Files.exists(journaled.getJournalPath()));
+
+        AddressBookFormatConverter.convert(filePath, AddressBookFormat.BINARY);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(journaled.getJournalPath()));
+        assertFalse(Files.exists(journaled.getCompactingPath()));
+    }
+
+    @Test
+    public void convert_missingFile_doesNothing() throws Exception {
+        Path filePath = testFolder.resolve("ab");
+        AddressBookFormatConverter.convert(filePath, AddressBookFormat.BINARY);
+        assertFalse(Files.exists(filePath));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundSaveQueueTest {
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final BackgroundSaveQueue queue = new BackgroundSaveQueue();
+
+    @Test
+    public void submit_fullRewritesWhileBusy_onlyLatestWritten() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit(PendingSave.fullRewrite(() -> {
+            started.countDown();
+            await(release);
+            written.add("a");
+        }));
+        started.await();
+
+        queue.submit(fullRewrite("b"));
+        queue.submit(incremental("c"));
+        queue.submit(fullRewrite("d"));
+        release.countDown();
+        queue.flush();
+
+        assertEquals(List.of("a", "d"), written);
+    }
+
+    @Test
+    public void submit_incrementalSavesWhileBusy_allWrittenInOrder() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit(PendingSave.incremental(() -> {
+            await(release);
+            written.add("a");
+        }));
+        queue.submit(incremental("b"));
+        queue.submit(incremental("c"));
+        release.countDown();
+        queue.flush();
+
+        assertEquals(List.of("a", "b", "c"), written);
+    }
+
+    @Test
+    public void flush_lastSaveFailed_throwsAndNotifiesHandler() {
+        IOException failure = new IOException("disk full");
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        queue.setFailureHandler(reported::add);
+
+        queue.submit(PendingSave.fullRewrite(() -> {
+            throw failure;
+        }));
+
+        assertThrows(IOException.class, "disk full", queue::flush);
+        assertEquals(1, reported.size());
+        assertSame(failure, reported.get(0));
+    }
+
+    @Test
+    public void flush_laterSaveSucceeded_doesNotThrow() throws Exception {
+        queue.submit(PendingSave.incremental(() -> {
+            throw new IOException("disk full");
+        }));
+        queue.awaitIdle();
+        queue.submit(fullRewrite("a"));
+
+        queue.flush();
+        assertEquals(List.of("a"), written);
+    }
+
+    @Test
+    public void flush_laterIncrementalSaveSucceeded_throws() {
+        queue.submit(PendingSave.incremental(() -> {
+            throw new IOException("disk full");
+        }));
+        queue.submit(incremental("a"));
+
+        assertThrows(IOException.class, "disk full", queue::flush);
+    }
+
+    private PendingSave fullRewrite(String name) {
+        return PendingSave.fullRewrite(() -> written.add(name));
+    }
+
+    private PendingSave incremental(String name) {
+        return PendingSave.incremental(() -> written.add(name));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("ab.bin"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_linkedAddressBook_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Student student = (Student) readBack.getPersonList().get(readBack.getPersonList().size() - 3);
+        assertEquals(original.getPersonList().get(original.getPersonList().size() - 2).getId(),
+                student.getParentId());
+        assertEquals(new TuitionClass(Day.FRIDAY, Time.H16).getClassId(), student.getClassId().get());
+    }
+
+    @Test
+    public void prepareSave_laterChanges_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        PendingSave save = storage.prepareSave(original);
+        AddressBook expected = new AddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        save.write();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path binaryPath = testFolder.resolve("ab.bin");
+        Path jsonPath = testFolder.resolve("ab.json");
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookCodec.MAGIC);
+        out.writeInt(BinaryAddressBookCodec.VERSION + 1);
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Returns the typical address book, whose ids are not UUIDs, plus linked persons with random UUID ids.
+     */
+    static AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Student student = (Student) new PersonBuilder().withId(PersonId.newId()).withCategory("student")
+                .withName("Linked Student").withTags("sec3", "math").build();
+        Parent parent = (Parent) new PersonBuilder().withId(PersonId.newId()).withCategory("parent")
+                .withName("Linked Parent").withTags("math").build();
+        Tutor tutor = (Tutor) new PersonBuilder().withId(PersonId.newId()).withCategory("tutor")
+                .withName("Linked Tutor").build();
+        TuitionClass tuitionClass = new TuitionClass(Day.FRIDAY, Time.H16);
+        addressBook.addPerson(student);
+        addressBook.addPerson(parent);
+        addressBook.addPerson(tutor);
+        addressBook.addTuitionClass(tuitionClass);
+        addressBook.addTuitionClass(new TuitionClass(Day.SUNDAY, Time.H20));
+        addressBook.linkStudentToParent(student, parent);
+        addressBook.linkStudentToClass(student, tuitionClass);
+        addressBook.assignTutorToClass(tutor, tuitionClass);
+        return addressBook;
+    }
+}
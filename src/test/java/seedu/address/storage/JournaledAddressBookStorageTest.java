@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedSaves_appendChangesToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(storage.getJournalPath()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person editedIda = new PersonBuilder(IDA).withPhone("91234567").build();
+        original.addPerson(IDA);
+        original.setPerson(IDA, editedIda);
+        original.addTuitionClass(new TuitionClass(Day.TUESDAY, Time.H18));
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalPath()).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Nothing changed since the last save, so nothing is written
+        storage.saveAddressBook(original);
+        assertEquals(4, Files.readAllLines(storage.getJournalPath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_writesSnapshotAndClearsJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalPath()));
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        storage.saveAddressBook(replacement);
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareSave_earlierAppendFailed_refusesLaterAppendsUntilSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        PendingSave failingAppend = storage.prepareSave(original);
+        original.addPerson(IDA);
+        PendingSave laterAppend = storage.prepareSave(original);
+
+        // A directory in place of the journal makes the append fail
+        Files.createDirectory(storage.getJournalPath());
+        assertThrows(IOException.class, failingAppend::write);
+        Files.delete(storage.getJournalPath());
+        assertThrows(IOException.class, laterAppend::write);
+        assertFalse(Files.exists(storage.getJournalPath()));
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBySnapshotCrash_skipsSupersededEntries() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(storage.getJournalPath());
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        storage.saveAddressBook(replacement);
+        // Crash after the snapshot was written but before the journal was deleted
+        Files.write(storage.getJournalPath(), journal);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook read = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(replacement, read);
+
+        // Later entries are numbered above the snapshot, so they are still replayed
+        reopened.saveAddressBook(read);
+        read.addPerson(HOON);
+        reopened.saveAddressBook(read);
+        assertEquals(read, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void close_compactionScheduled_finishesCompaction() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        storage.close();
+
+        assertFalse(Files.exists(filePath.resolveSibling("ab.json" + JournaledAddressBookStorage.COMPACTING_SUFFIX)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Later saves still reach the journal, which is compacted after the next run
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastEntry_ignoresTruncatedEntry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalPath(), List.of("{\"seq\":1,\"op\":\"PUT_PE"), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
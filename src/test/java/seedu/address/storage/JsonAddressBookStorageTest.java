@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -18,6 +19,11 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,25 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void prepareSave_linksChangedBeforeWrite_writesLinksWhenPrepared() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        Student student = (Student) new PersonBuilder(ALICE).build();
+        TuitionClass tuitionClass = new TuitionClass(Day.TUESDAY, Time.H18);
+        original.addPerson(student);
+        original.addTuitionClass(tuitionClass);
+
+        PendingSave save = jsonAddressBookStorage.prepareSave(original);
+        original.linkStudentToClass(student, tuitionClass);
+        save.write();
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertTrue(((Student) readBack.getPersonList().get(0)).getClassId().isEmpty());
+        assertTrue(readBack.getTuitionClassList().get(0).getStudentIds().isEmpty());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_matchesTreeModelRead() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(expected, JsonAddressBookStream.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookStream.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndMissingClasses_ignored() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        FileUtil.writeToFile(file, "{ \"version\": { \"major\": 1 }, \"persons\": [], \"extra\": [1, 2] }");
+
+        AddressBook addressBook = JsonAddressBookStream.read(file);
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertTrue(addressBook.getTuitionClassList().isEmpty());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        FileUtil.writeToFile(file, "[]");
+
+        assertThrows(IOException.class, () -> JsonAddressBookStream.read(file));
+    }
+
+    @Test
+    public void write_thenRead_preservesOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Aaron Zed").build());
+        Path file = testFolder.resolve("addressBook.json");
+
+        JsonAddressBookStream.write(original.getPersonList().stream().map(JsonAdaptedPerson::new).toList(),
+                List.of(), file);
+
+        assertEquals(original, JsonAddressBookStream.read(file));
+    }
+}
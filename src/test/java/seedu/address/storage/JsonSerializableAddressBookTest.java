@@ -1,17 +1,22 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersonId;
 import seedu.address.testutil.TypicalTuitionClasses;
 
 public class JsonSerializableAddressBookTest {
@@ -21,6 +26,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    private static final int LARGE_ADDRESS_BOOK_SIZE = 100_000;
+    private static final Duration LARGE_ADDRESS_BOOK_LOAD_BUDGET = Duration.ofSeconds(10);
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -57,4 +65,18 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeAddressBook_loadsWithinBudget() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(LARGE_ADDRESS_BOOK_SIZE);
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            persons.add(new JsonAdaptedPerson(PersonId.newId().getValue(), "student", "Person " + i,
+                    String.valueOf(80000000 + i), "person" + i + "@example.com", "Block " + i,
+                    List.of(), null, null, null));
+        }
+        JsonSerializableAddressBook serializableAb = new JsonSerializableAddressBook(persons, List.of());
+
+        AddressBook addressBook = assertTimeout(LARGE_ADDRESS_BOOK_LOAD_BUDGET, serializableAb::toModelType);
+        assertEquals(LARGE_ADDRESS_BOOK_SIZE, addressBook.getPersonList().size());
+    }
+
 }
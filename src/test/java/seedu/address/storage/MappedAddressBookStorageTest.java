@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.BinaryAddressBookStorageTest.getLinkedAddressBook;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("missing.tpmm")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_linkedAddressBook_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Student student = (Student) readBack.getPersonList().get(readBack.getPersonList().size() - 3);
+        assertEquals(original.getPersonList().get(original.getPersonList().size() - 2).getId(),
+                student.getParentId());
+        assertEquals(new TuitionClass(Day.FRIDAY, Time.H16).getClassId(), student.getClassId().get());
+    }
+
+    @Test
+    public void readAddressBook_detailsDecodedOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        for (Person person : readBack.getPersonList()) {
+            assertFalse(person.isDetailsLoaded());
+        }
+        Person first = readBack.getPersonList().get(0);
+        assertEquals(original.getPersonList().get(0).getTags(), first.getTags());
+        assertTrue(first.isDetailsLoaded());
+        assertFalse(readBack.getPersonList().get(1).isDetailsLoaded());
+    }
+
+    @Test
+    public void prepareSave_laterChanges_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        PendingSave save = storage.prepareSave(original);
+        AddressBook expected = new AddressBook(original);
+        original.removePerson(original.getPersonList().get(0));
+        save.write();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_overMappedFile_earlierReadStillUsable() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_overMappedFile_savedToPendingFileAndReadNextTime() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] mappedBytes = Files.readAllBytes(filePath);
+        storage.readAddressBook();
+
+        storage.saveAddressBook(new AddressBook());
+
+        Path pendingSave = MappedAddressBookStorage.getPendingSavePath(filePath);
+        assertTrue(Files.exists(pendingSave));
+        assertArrayEquals(mappedBytes, Files.readAllBytes(filePath));
+        ReadOnlyAddressBook readBack = new MappedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+        assertFalse(Files.exists(pendingSave));
+    }
+
+    @Test
+    public void saveAddressBook_pendingSaveLeftByEarlierRun_notMovedOverNewerSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        new MappedAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        new MappedAddressBookStorage(MappedAddressBookStorage.getPendingSavePath(filePath))
+                .saveAddressBook(new AddressBook());
+        AddressBook expected = getTypicalAddressBook();
+
+        new MappedAddressBookStorage(filePath).saveAddressBook(expected);
+
+        assertEquals(expected, new AddressBook(new MappedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptDetails_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        AddressBook original = getTypicalAddressBook();
+        new MappedAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] email = original.getPersonList().get(0).getEmail().value.getBytes(StandardCharsets.UTF_8);
+        int emailOffset = indexOf(bytes, email);
+        ByteBuffer.wrap(bytes).putInt(emailOffset - Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.tpmm");
+        new MappedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+}
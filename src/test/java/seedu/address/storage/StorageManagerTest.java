@@ -60,6 +60,23 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager writeBehindStorage = new StorageManager(addressBookStorage, userPrefsStorage, true);
+
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        // Changes after the save returns are not part of it
+        original.removePerson(original.getPersonList().get(0));
+        writeBehindStorage.flushAddressBook();
+
+        ReadOnlyAddressBook retrieved = writeBehindStorage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(retrieved));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,73 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+
+public class CommandBoxTest {
+
+    @Test
+    public void findNameStart_caretInName_returnsStartOfName() {
+        String text = "add n/Ale";
+        assertEquals(text.indexOf("Ale"), CommandBox.findNameStart(text, text.length()));
+
+        // caret right after the prefix
+        String justPrefix = "find n/";
+        assertEquals(justPrefix.length(), CommandBox.findNameStart(justPrefix, justPrefix.length()));
+
+        // name containing spaces, with later text after the caret
+        String withSpaces = "add n/Alex Ye p/9";
+        int caret = withSpaces.indexOf(" p/");
+        assertEquals(withSpaces.indexOf("Alex"), CommandBox.findNameStart(withSpaces, caret));
+
+        // last of several name prefixes
+        String twoNames = "link n/Alex n/Ber";
+        assertEquals(twoNames.lastIndexOf("Ber"), CommandBox.findNameStart(twoNames, twoNames.length()));
+    }
+
+    @Test
+    public void findNameStart_caretNotInName_returnsMinusOne() {
+        // no name prefix
+        assertEquals(-1, CommandBox.findNameStart("list", 4));
+
+        // caret in a later argument
+        String laterArgument = "add n/Alex p/9";
+        assertEquals(-1, CommandBox.findNameStart(laterArgument, laterArgument.length()));
+
+        // prefix not preceded by whitespace
+        String notPrefix = "add tn/Ale";
+        assertEquals(-1, CommandBox.findNameStart(notPrefix, notPrefix.length()));
+
+        // caret before the prefix
+        String beforePrefix = "add n/Alex";
+        assertEquals(-1, CommandBox.findNameStart(beforePrefix, 3));
+    }
+
+    @Test
+    public void commonPrefix_namesDifferingInCase_returnsPrefixInCaseOfFirstName() {
+        List<Name> names = List.of(new Name("Alex Yeoh"), new Name("alex yu"), new Name("ALEX YANG"));
+        assertEquals("Alex Y", CommandBox.commonPrefix(names));
+    }
+
+    @Test
+    public void commonPrefix_firstNameIsPrefixOfOthers_returnsFirstName() {
+        List<Name> names = List.of(new Name("Alex"), new Name("Alexander"));
+        assertEquals("Alex", CommandBox.commonPrefix(names));
+    }
+
+    @Test
+    public void commonPrefix_nameWithExtraWhitespace_measuredOnFullName() {
+        List<Name> names = List.of(new Name("Alex   Yeoh"), new Name("Alex Yu"));
+        assertEquals("Alex Y", CommandBox.commonPrefix(names));
+    }
+
+    @Test
+    public void commonPrefix_nothingShared_returnsEmptyString() {
+        List<Name> names = List.of(new Name("Alex"), new Name("Bernice"));
+        assertEquals("", CommandBox.commonPrefix(names));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit for tests that create controls, and skips those tests where it cannot start, such as on a
+ * machine without a display.
+ */
+public class JavaFxToolkit {
+
+    private static Boolean isRunning;
+
+    /**
+     * Starts the toolkit if it is not running yet, and skips the calling test if it cannot be started.
+     */
+    public static synchronized void assumeRunning() {
+        if (isRunning == null) {
+            isRunning = start();
+        }
+        assumeTrue(isRunning, "JavaFX toolkit cannot be started");
+    }
+
+    private static boolean start() {
+        try {
+            Platform.startup(() -> {});
+            return true;
+        } catch (IllegalStateException e) {
+            // Already started
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
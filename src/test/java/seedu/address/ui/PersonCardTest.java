@@ -0,0 +1,83 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCardTest {
+
+    private static final Person STUDENT_WITH_THREE_TAGS =
+            new PersonBuilder().withName("Amy").withCategory("student").withTags("c", "a", "b").build();
+    private static final Person TUTOR_WITH_ONE_TAG =
+            new PersonBuilder().withName("Bob").withCategory("tutor").withTags("z").build();
+
+    @BeforeAll
+    public static void startToolkit() {
+        JavaFxToolkit.assumeRunning();
+    }
+
+    @Test
+    public void setPerson_fewerTags_reusesAndTrimsTagLabels() {
+        PersonCard card = new PersonCard();
+        card.setPerson(STUDENT_WITH_THREE_TAGS, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        List<Node> firstLabels = List.copyOf(getTagLabels(card));
+        assertEquals(List.of("a", "b", "c"), getTagNames(card));
+
+        card.setPerson(TUTOR_WITH_ONE_TAG, 2, PersonCardViewModel.NO_RELATIONSHIPS);
+
+        assertEquals(List.of("z"), getTagNames(card));
+        assertSame(firstLabels.get(0), getTagLabels(card).get(0));
+        assertSame(TUTOR_WITH_ONE_TAG, card.getPerson());
+    }
+
+    @Test
+    public void setPerson_moreTags_reusesTagLabelsAndAddsMore() {
+        PersonCard card = new PersonCard();
+        card.setPerson(TUTOR_WITH_ONE_TAG, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        Node firstLabel = getTagLabels(card).get(0);
+
+        card.setPerson(STUDENT_WITH_THREE_TAGS, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+
+        assertEquals(List.of("a", "b", "c"), getTagNames(card));
+        assertSame(firstLabel, getTagLabels(card).get(0));
+    }
+
+    @Test
+    public void setPerson_otherCategory_swapsCategoryStyleClass() {
+        PersonCard card = new PersonCard();
+        Label category = (Label) card.getRoot().lookup("#category");
+
+        card.setPerson(STUDENT_WITH_THREE_TAGS, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        assertTrue(category.getStyleClass().contains("category-student"));
+        int styleClassCount = category.getStyleClass().size();
+
+        card.setPerson(TUTOR_WITH_ONE_TAG, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        assertTrue(category.getStyleClass().contains("category-tutor"));
+        assertFalse(category.getStyleClass().contains("category-student"));
+        assertEquals(styleClassCount, category.getStyleClass().size());
+
+        // rebinding to a person of the same category adds nothing
+        card.setPerson(TUTOR_WITH_ONE_TAG, 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        assertEquals(styleClassCount, category.getStyleClass().size());
+    }
+
+    private static List<Node> getTagLabels(PersonCard card) {
+        return ((FlowPane) card.getRoot().lookup("#tags")).getChildren();
+    }
+
+    private static List<String> getTagNames(PersonCard card) {
+        return getTagLabels(card).stream().map(node -> ((Label) node).getText()).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tuitionclass.Day;
+import seedu.address.model.tuitionclass.Time;
+import seedu.address.model.tuitionclass.TuitionClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCardViewModelCacheTest {
+
+    private final ModelManager model = new ModelManager();
+    private final List<Runnable> commandThreadTasks = new ArrayList<>();
+    private final List<Runnable> applicationThreadTasks = new ArrayList<>();
+    private final PersonCardViewModelCache cache = new PersonCardViewModelCache(model.getAddressBook(),
+            commandThreadTasks::add, applicationThreadTasks::add);
+
+    @BeforeEach
+    public void setUp() {
+        model.setPersonsChangedListener(affectedIds -> cache.update(affectedIds,
+                cache.computeFor(affectedIds, model.getFilteredPersonList())));
+    }
+
+    @Test
+    public void get_unchangedPerson_returnsCachedViewModel() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        model.addPerson(student);
+        model.publishChanges();
+        assertSame(cache.get(student), cache.get(student));
+        assertEquals(Optional.empty(), cache.get(student).getParentText());
+    }
+
+    @Test
+    public void get_unpublishedPerson_doesNotReadAddressBook() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        model.addPerson(student);
+        model.addPerson(parent);
+        model.linkStudentToParent(student, parent);
+        assertSame(PersonCardViewModel.NO_RELATIONSHIPS, cache.get(student));
+    }
+
+    @Test
+    public void get_personNotComputed_computesItBetweenCommandsAndNotifies() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        model.addPerson(student);
+        model.addPerson(parent);
+        model.linkStudentToParent(student, parent);
+        List<Set<PersonId>> computedIds = new ArrayList<>();
+        cache.setComputedListener(computedIds::add);
+
+        // asked for twice while laying out the cards -> computed once
+        assertSame(PersonCardViewModel.NO_RELATIONSHIPS, cache.get(student));
+        assertSame(PersonCardViewModel.NO_RELATIONSHIPS, cache.get(student));
+        runAll(applicationThreadTasks);
+        assertEquals(1, commandThreadTasks.size());
+
+        // computed on the command thread, but only added on the application thread
+        runAll(commandThreadTasks);
+        assertSame(PersonCardViewModel.NO_RELATIONSHIPS, cache.get(student));
+        runAll(applicationThreadTasks);
+        assertEquals(Optional.of("Parent: Some Parent"), cache.get(student).getParentText());
+        assertEquals(List.of(Set.of(student.getId())), computedIds);
+        assertTrue(commandThreadTasks.isEmpty());
+    }
+
+    @Test
+    public void computeFor_shownPersonWithoutViewModel_computesIt() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        model.addPerson(student);
+        model.addPerson(parent);
+        model.linkStudentToParent(student, parent);
+        Set<PersonId> noneAffected = Set.of();
+        cache.update(noneAffected, cache.computeFor(noneAffected, List.of(student)));
+        assertEquals(Optional.of("Parent: Some Parent"), cache.get(student).getParentText());
+    }
+
+    @Test
+    public void get_afterRelationshipChanges_reflectsChanges() {
+        Student student = (Student) new PersonBuilder().withCategory("student").withName("Some Student").build();
+        Parent parent = (Parent) new PersonBuilder().withCategory("parent").withName("Some Parent").build();
+        Tutor tutor = (Tutor) new PersonBuilder().withCategory("tutor").withName("Some Tutor").build();
+        TuitionClass monday = new TuitionClass(Day.MONDAY, Time.H12);
+        model.addPerson(student);
+        model.addPerson(parent);
+        model.addPerson(tutor);
+        model.addTuitionClass(monday);
+        model.publishChanges();
+
+        // not yet published -> cached view models kept
+        model.linkStudentToParent(student, parent);
+        assertEquals(Optional.empty(), cache.get(student).getParentText());
+
+        model.linkStudentToClass(student, monday);
+        model.assignTutorToClass(tutor, monday);
+        model.publishChanges();
+        assertEquals(Optional.of("Parent: Some Parent"), cache.get(student).getParentText());
+        assertEquals(Optional.of("Class: " + monday.toSimpleString()), cache.get(student).getTuitionClassText());
+        assertEquals(Optional.of("Children: Some Student"), cache.get(parent).getChildrenText());
+        assertEquals(Optional.of("Classes: " + monday.toSimpleString()), cache.get(tutor).getTuitionClassText());
+
+        // renaming a parent changes what their children's cards show
+        Parent renamedParent = (Parent) new PersonBuilder(parent).withName("Other Parent").build();
+        model.setPerson(parent, renamedParent);
+        model.publishChanges();
+        assertEquals(Optional.of("Parent: Other Parent"), cache.get(student).getParentText());
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        List<Runnable> toRun = List.copyOf(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.ui;
+
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures how many person list cells can be updated per second while scrolling, when each cell rebinds its one card
+ * and when a new card is loaded for every update as before. Cells are updated off-screen without a layout pass, so
+ * the figures cover binding a person to a cell only. Run by hand on a machine with a display.
+ */
+@Disabled("Benchmark, run by hand")
+public class PersonListPanelScrollBenchmarkTest {
+
+    private static final int VISIBLE_CELLS = 20;
+    private static final int WARM_UP_UPDATES = 5_000;
+    private static final int MEASURED_UPDATES = 20_000;
+
+    private final List<Person> persons = getTypicalPersons();
+
+    @Test
+    public void scroll_cellsPerSecond() {
+        JavaFxToolkit.assumeRunning();
+        PersonListPanel panel = new PersonListPanel(FXCollections.observableArrayList(persons));
+        PersonListPanel.PersonListViewCell[] cells = new PersonListPanel.PersonListViewCell[VISIBLE_CELLS];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = panel.new PersonListViewCell();
+        }
+
+        scrollRebinding(cells, WARM_UP_UPDATES);
+        long start = System.nanoTime();
+        scrollRebinding(cells, MEASURED_UPDATES);
+        report("rebound card per cell", System.nanoTime() - start);
+
+        scrollLoadingNewCards(WARM_UP_UPDATES);
+        start = System.nanoTime();
+        scrollLoadingNewCards(MEASURED_UPDATES);
+        report("new card per update", System.nanoTime() - start);
+    }
+
+    private void scrollRebinding(PersonListPanel.PersonListViewCell[] cells, int updates) {
+        for (int i = 0; i < updates; i++) {
+            cells[i % cells.length].updateItem(persons.get(i % persons.size()), false);
+        }
+    }
+
+    private void scrollLoadingNewCards(int updates) {
+        for (int i = 0; i < updates; i++) {
+            new PersonCard().setPerson(persons.get(i % persons.size()), i + 1, PersonCardViewModel.NO_RELATIONSHIPS);
+        }
+    }
+
+    private static void report(String mode, long elapsedNanos) {
+        System.out.printf("%s: %.0f cells/s%n", mode, MEASURED_UPDATES * 1e9 / elapsedNanos);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListUpdateTest {
+
+    private final PersonCardViewModelCache viewModels = new PersonCardViewModelCache(new AddressBook(), Runnable::run,
+            Runnable::run);
+    private final ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final PersonListUpdate.Recorder recorder = new PersonListUpdate.Recorder(source);
+    private final ObservableList<Person> shown = FXCollections.observableArrayList(source);
+
+    @Test
+    public void applyTo_personReplaced_onlyReplacedPersonChanged() {
+        List<String> changes = recordChanges(shown);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91111111").build();
+        source.remove(1);
+        source.add(1, editedBenson);
+
+        recorder.capture(Set.of(), viewModels).applyTo(shown, viewModels);
+
+        assertEquals(List.of(ALICE, editedBenson, CARL), shown);
+        assertEquals(List.of("replaced 1-2"), changes);
+    }
+
+    @Test
+    public void applyTo_personsAddedAndRemoved_onlyChangedRangeChanged() {
+        List<String> changes = recordChanges(shown);
+
+        source.add(1, DANIEL);
+        recorder.capture(Set.of(), viewModels).applyTo(shown, viewModels);
+        assertEquals(List.of(ALICE, DANIEL, BENSON, CARL), shown);
+        assertEquals(List.of("added 1-2"), changes);
+
+        changes.clear();
+        source.remove(1, 3);
+        recorder.capture(Set.of(), viewModels).applyTo(shown, viewModels);
+        assertEquals(List.of(ALICE, CARL), shown);
+        assertEquals(List.of("removed 1-1"), changes);
+    }
+
+    @Test
+    public void applyTo_severalChanges_replayedInOrder() {
+        source.add(DANIEL);
+        source.remove(ALICE);
+        source.add(0, ALICE);
+        source.remove(BENSON);
+        PersonListUpdate first = recorder.capture(Set.of(), viewModels);
+        source.setAll(CARL, BENSON);
+        PersonListUpdate second = recorder.capture(Set.of(), viewModels);
+
+        first.applyTo(shown, viewModels);
+        assertEquals(List.of(ALICE, CARL, DANIEL), shown);
+        second.applyTo(shown, viewModels);
+        assertEquals(source, shown);
+    }
+
+    @Test
+    public void applyTo_filteredPersonListChanged_copyMatchesFilteredPersonList() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonListUpdate.Recorder modelRecorder = new PersonListUpdate.Recorder(model.getFilteredPersonList());
+        ObservableList<Person> copy = FXCollections.observableArrayList(model.getFilteredPersonList());
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91111111").build());
+        model.deletePerson(CARL);
+        model.updateFilteredPersonList(person -> !person.isSamePerson(ALICE));
+        model.addPerson(new PersonBuilder().withName("Zed").build());
+        modelRecorder.capture(Set.of(), viewModels).applyTo(copy, viewModels);
+
+        assertEquals(model.getFilteredPersonList(), copy);
+    }
+
+    @Test
+    public void applyTo_noChanges_noChange() {
+        List<String> changes = recordChanges(shown);
+
+        recorder.capture(Set.of(), viewModels).applyTo(shown, viewModels);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    private static List<String> recordChanges(ObservableList<Person> list) {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                String kind = change.wasReplaced() ? "replaced" : change.wasAdded() ? "added" : "removed";
+                changes.add(kind + " " + change.getFrom() + "-" + change.getTo());
+            }
+        });
+        return changes;
+    }
+}